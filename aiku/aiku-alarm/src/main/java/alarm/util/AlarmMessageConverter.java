@@ -37,6 +37,9 @@ public class AlarmMessageConverter {
             case SCHEDULE_OPEN -> {
                 return getScheduleStatement(alarmMessage) + " 맵이 생성되었습니다!";
             }
+            case SCHEDULE_REMIND -> {
+                return getScheduleStatement(alarmMessage) + " 약속 시간이 되었습니다!";
+            }
             case SCHEDULE_AUTO_CLOSE -> {
                 return getScheduleStatement(alarmMessage) + " 이 자동 종료되었습니다.";
             }
@@ -37,7 +37,7 @@ public class AlarmMessageMapper {
         }
 
         Class<?> clazz = switch (alarmMessageType) {
-            case SCHEDULE_ADD, SCHEDULE_ENTER, SCHEDULE_EXIT, SCHEDULE_UPDATE, SCHEDULE_OWNER, SCHEDULE_OPEN, SCHEDULE_AUTO_CLOSE ->
+            case SCHEDULE_ADD, SCHEDULE_ENTER, SCHEDULE_EXIT, SCHEDULE_UPDATE, SCHEDULE_OWNER, SCHEDULE_OPEN, SCHEDULE_REMIND, SCHEDULE_AUTO_CLOSE ->
                 data.value().contains("sourceMember") ? ScheduleMemberAlarmMessage.class : ScheduleAlarmMessage.class;
             case MEMBER_ARRIVAL -> ArrivalAlarmMessage.class;
             case SCHEDULE_MAP_CLOSE -> ScheduleClosedMessage.class;
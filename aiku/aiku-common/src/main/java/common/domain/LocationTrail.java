@@ -0,0 +1,37 @@
+package common.domain;
+
+import common.domain.value_reference.MemberValue;
+import common.domain.value_reference.ScheduleValue;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 스케줄 종료 시 Redis 스트림에서 옮겨 저장하는 멤버 이동 경로, 저장은 JDBC 배치 insert 로만 수행
+// 스트림 id 로 중복 저장을 막아 옮기는 도중 실패해 다시 옮겨도 같은 지점이 두 번 저장되지 않음
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_location_trail_schedule_member", columnList = "scheduleId, memberId, recordedAt"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_location_trail_schedule_stream", columnNames = {"scheduleId", "streamId"}))
+@Entity
+public class LocationTrail {
+
+    @Column(name = "locationTrailId")
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Embedded
+    private ScheduleValue schedule;
+
+    @Embedded
+    private MemberValue member;
+
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime recordedAt;
+
+    @Column(length = 40)
+    private String streamId; // Redis 스트림 id (ms-seq)
+}
@@ -1,20 +1,34 @@
 package common.domain.log;
 
-import common.domain.BaseTime;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDateTime;
+
+/*
+포인트 변화 원장, 수정 없이 추가만 함
+대상별 하위 테이블 대신 logType + referenceId 를 한 테이블에 두어 로그마다 INSERT 한 번
+id 는 시퀀스(pooled)로 미리 할당받아 saveAll 시 Hibernate JDBC 배치로 묶어 저장
+sourceKey 는 Kafka 레코드 위치로, 같은 레코드가 다시 전달되어도 한 번만 기록되도록 유니크 키로 둠
+ */
 @Getter
-@NoArgsConstructor(access = AccessLevel.PACKAGE)
-@DiscriminatorColumn(name = "logType")
-@Inheritance(strategy = InheritanceType.JOINED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Immutable
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_point_log_member", columnList = "memberId, pointLogId"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_log_source", columnNames = "sourceKey"))
 @Entity
-public class PointLog extends BaseTime {
+public class PointLog {
 
     @Column(name = "pointLogId")
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_log_seq")
+    @SequenceGenerator(name = "point_log_seq", sequenceName = "point_log_seq", allocationSize = 100)
     private Long id;
 
     private Long memberId;
@@ -24,10 +38,29 @@ public class PointLog extends BaseTime {
 
     private PointLogStatus pointLogStatus;
 
-    protected PointLog(Long memberId, int pointAmount, String description, common.domain.log.PointLogStatus pointLogStatus) {
+    @Enumerated(EnumType.STRING)
+    private PointLogType logType;
+    private Long referenceId;
+
+    @Column(length = 100)
+    private String sourceKey;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public PointLog(Long memberId, int pointAmount, String description, PointLogStatus pointLogStatus, PointLogType logType, Long referenceId) {
+        this(memberId, pointAmount, description, pointLogStatus, logType, referenceId, null);
+    }
+
+    public PointLog(Long memberId, int pointAmount, String description, PointLogStatus pointLogStatus, PointLogType logType, Long referenceId,
+                    String sourceKey) {
+        this.sourceKey = sourceKey;
         this.memberId = memberId;
         this.pointAmount = pointAmount;
         this.description = description;
         this.pointLogStatus = pointLogStatus;
+        this.logType = logType;
+        this.referenceId = referenceId;
     }
 }
@@ -0,0 +1,6 @@
+package common.domain.log;
+
+// 포인트 변화 대상 구분, referenceId 가 가리키는 대상의 종류
+public enum PointLogType {
+    SCHEDULE, BETTING, RACING, SHOP, EVENT, PAYMENT
+}
@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PACKAGE)
@@ -41,6 +42,13 @@ public class Member extends BaseTime {
 
     private int point = 0;
 
+    // 포인트 배치 반영 시 낙관적 락으로 동시 수정 감지
+    // ddl update 로 컬럼이 추가될 때 기존 회원은 0 으로 채워짐, 이미 null 로 추가된 경우는 MemberService 에서 백필
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Embedded
     private ServiceAgreement serviceAgreement;
 
@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_racing_racer_pair", columnNames = "racerPairKey"))
 @Entity
 public class Racing extends BaseTime {
 
@@ -38,6 +39,10 @@ public class Racing extends BaseTime {
     @Enumerated(value = EnumType.STRING)
     private Status status;
 
+    // 두 레이서 스케줄 멤버 id 를 작은 값부터 이은 키, 스케줄 멤버 id 가 스케줄을 포함하므로 (스케줄, 두 멤버) 쌍을 나타냄
+    // ALIVE 레이싱만 값을 가지고 DELETE, ERROR 가 되면 null 로 비워 유니크 인덱스가 살아있는 레이싱만 막도록 함
+    private String racerPairKey;
+
     public static Racing create(Long firstScheduleMemberId, Long secondScheduleMemberId, Integer pointAmount) {
         Racing racing = new Racing();
         racing.firstRacer = new ScheduleMemberValue(firstScheduleMemberId);
@@ -46,10 +51,15 @@ public class Racing extends BaseTime {
 
         racing.raceStatus = ExecStatus.WAIT;
         racing.status = Status.ALIVE;
+        racing.racerPairKey = racerPairKey(firstScheduleMemberId, secondScheduleMemberId);
 
         return racing;
     }
 
+    public static String racerPairKey(Long firstScheduleMemberId, Long secondScheduleMemberId) {
+        return Math.min(firstScheduleMemberId, secondScheduleMemberId) + ":" + Math.max(firstScheduleMemberId, secondScheduleMemberId);
+    }
+
     public void startRacing() {
         this.raceStatus = ExecStatus.RUN;
     }
@@ -61,6 +71,7 @@ public class Racing extends BaseTime {
 
     public void specifyError() {
         this.status = Status.ERROR;
+        this.racerPairKey = null;
     }
 
 }
@@ -19,6 +19,7 @@ import static common.domain.Status.*;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_schedule_time", columnList = "scheduleTime, scheduleId"))
 @Entity
 public class Schedule extends BaseTime {
 
@@ -12,6 +12,7 @@ public enum KafkaTopic {
     POINT_CHANGE("point-change"),
     SCHEDULE_CLOSE("schedule-close"),
     SCHEDULE_AUTO_CLOSE("schedule-auto-close"),
+    SCHEDULE_EXIT("schedule-exit"),
     POINT_CHANGE_FAILURE("point-change-failure");
 
     private String name;
@@ -0,0 +1,15 @@
+package common.kafka_message;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+@AllArgsConstructor
+public class ScheduleExitMessage {
+
+    private Long scheduleId;
+    private Long memberId;
+}
@@ -5,7 +5,7 @@ import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
-public class ScheduleOpenEvent {
+public class MemberPointChangedEvent {
 
-    private Long scheduleId;
+    private Long memberId;
 }
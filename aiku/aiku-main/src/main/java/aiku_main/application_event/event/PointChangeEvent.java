@@ -1,9 +1,12 @@
 package aiku_main.application_event.event;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class PointChangeEvent {
 
@@ -13,4 +16,15 @@ public class PointChangeEvent {
 
     private PointChangeReason reason;
     private Long reasonId;
+
+    // Kafka 로 받은 경우 레코드 위치(topic-partition-offset), PointLog 에 함께 저장해 재전달된 레코드를 다시 반영하지 않음
+    private String sourceKey;
+
+    public PointChangeEvent(Long memberId, PointChangeType sign, int pointAmount, PointChangeReason reason, Long reasonId) {
+        this(memberId, sign, pointAmount, reason, reasonId, null);
+    }
+
+    public PointChangeEvent withSourceKey(String sourceKey) {
+        return new PointChangeEvent(memberId, sign, pointAmount, reason, reasonId, sourceKey);
+    }
 }
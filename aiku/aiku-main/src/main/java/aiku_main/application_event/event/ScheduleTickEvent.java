@@ -0,0 +1,15 @@
+package aiku_main.application_event.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 1분마다 한 인스턴스에서만 발행, tickTime 기준으로 열 스케줄과 (remindFrom, tickTime] 사이에 시작하는 스케줄을 처리
+@Getter
+@AllArgsConstructor
+public class ScheduleTickEvent {
+
+    private LocalDateTime remindFrom;
+    private LocalDateTime tickTime;
+}
@@ -0,0 +1,27 @@
+package aiku_main.application_event.handler;
+
+import aiku_main.application_event.event.MemberPointChangedEvent;
+import aiku_main.service.member.MemberPointReadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberPointChangedEventHandler {
+
+    private final MemberPointReadService memberPointReadService;
+
+    // 커밋된 포인트로 읽기 모델 갱신, 실패해도 포인트 변화 처리에는 영향을 주지 않음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void refreshMemberPoint(MemberPointChangedEvent event){
+        try {
+            memberPointReadService.refresh(event.getMemberId());
+        } catch (Exception e) {
+            log.warn("MemberPointChangedEventHandler.refreshMemberPoint failed : memberId = {}", event.getMemberId(), e);
+        }
+    }
+}
@@ -1,18 +1,23 @@
 package aiku_main.application_event.handler;
 
 import aiku_main.application_event.event.ScheduleExitEvent;
+import aiku_main.kafka.KafkaProducerService;
 import aiku_main.service.betting.BettingService;
+import common.kafka_message.ScheduleExitMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import static common.kafka_message.KafkaTopic.SCHEDULE_EXIT;
+
 @RequiredArgsConstructor
 @Component
 public class ScheduleExitEventHandler {
 
     private final BettingService bettingService;
+    private final KafkaProducerService kafkaProducerService;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -25,4 +30,11 @@ public class ScheduleExitEventHandler {
     public void deleteBettingForBetee(ScheduleExitEvent event){
         bettingService.deleteBettingForBetee(event.getMemberId(), event.getScheduleMemberId(), event.getScheduleId());
     }
+
+    // 맵 서버의 스케줄 멤버 캐시 제거
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void sendScheduleExitMessage(ScheduleExitEvent event){
+        kafkaProducerService.sendMessage(SCHEDULE_EXIT, new ScheduleExitMessage(event.getScheduleId(), event.getMemberId()));
+    }
 }
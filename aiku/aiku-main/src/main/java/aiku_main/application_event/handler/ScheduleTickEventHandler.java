@@ -1,6 +1,6 @@
 package aiku_main.application_event.handler;
 
-import aiku_main.application_event.event.ScheduleOpenEvent;
+import aiku_main.application_event.event.ScheduleTickEvent;
 import aiku_main.service.schedule.ScheduleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
@@ -8,12 +8,13 @@ import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
 @Component
-public class ScheduleOpenEventHandler {
+public class ScheduleTickEventHandler {
 
     private final ScheduleService scheduleService;
 
     @EventListener
-    public void openSchedule(ScheduleOpenEvent event){
-        scheduleService.openSchedule(event.getScheduleId());
+    public void openAndRemindSchedules(ScheduleTickEvent event){
+        scheduleService.openDueSchedules(event.getTickTime());
+        scheduleService.remindStartingSchedules(event.getRemindFrom(), event.getTickTime());
     }
 }
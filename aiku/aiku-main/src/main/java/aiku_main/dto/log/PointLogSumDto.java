@@ -0,0 +1,12 @@
+package aiku_main.dto.log;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PointLogSumDto {
+
+    private Long memberId;
+    private Long pointAmountSum;
+}
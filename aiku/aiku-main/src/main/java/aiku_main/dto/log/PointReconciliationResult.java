@@ -0,0 +1,25 @@
+package aiku_main.dto.log;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PointReconciliationResult {
+
+    private long checkedCount;
+    private long driftedCount;
+    private long repairedCount;
+
+    public static PointReconciliationResult empty() {
+        return new PointReconciliationResult(0, 0, 0);
+    }
+
+    public PointReconciliationResult add(PointReconciliationResult other) {
+        return new PointReconciliationResult(
+                checkedCount + other.checkedCount,
+                driftedCount + other.driftedCount,
+                repairedCount + other.repairedCount
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package aiku_main.dto.member;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberPointDto {
+
+    private Long memberId;
+    private int point;
+    private Long version;
+}
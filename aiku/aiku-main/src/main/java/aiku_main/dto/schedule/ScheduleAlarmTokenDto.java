@@ -0,0 +1,12 @@
+package aiku_main.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ScheduleAlarmTokenDto {
+
+    private Long scheduleId;
+    private String firebaseToken;
+}
@@ -0,0 +1,15 @@
+package aiku_main.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 스케줄 트리거 예약에 필요한 스케줄 id, 시각만 조회
+@Getter
+@AllArgsConstructor
+public class ScheduleTriggerDto {
+
+    private Long scheduleId;
+    private LocalDateTime scheduleTime;
+}
@@ -0,0 +1,21 @@
+package aiku_main.exception;
+
+import aiku_main.application_event.event.PointChangeEvent;
+import common.exception.BaseException;
+import lombok.Getter;
+
+import java.util.List;
+
+import static common.response.status.BaseErrorCode.INTERNAL_SERVER_ERROR;
+
+@Getter
+public class MemberPointConflictException extends BaseException {
+
+    // 낙관적 락 재시도를 모두 소진해 반영하지 못한 포인트 변화
+    private final List<PointChangeEvent> failedEvents;
+
+    public MemberPointConflictException(List<PointChangeEvent> failedEvents) {
+        super(INTERNAL_SERVER_ERROR, "포인트 증감 중 동시 수정이 반복되어 반영하지 못했습니다.");
+        this.failedEvents = failedEvents;
+    }
+}
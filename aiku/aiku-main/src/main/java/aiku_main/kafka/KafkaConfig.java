@@ -0,0 +1,54 @@
+package aiku_main.kafka;
+
+import aiku_main.exception.MemberPointConflictException;
+import common.exception.JsonParseException;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Properties;
+
+@Configuration
+public class KafkaConfig {
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+    private static final int BATCH_MAX_POLL_RECORDS = 500;
+    private static final long RETRY_INTERVAL_MILLIS = 1000;
+    private static final long MAX_RETRIES = 2;
+
+    // 한 번의 poll 로 받은 레코드를 리스트로 전달, 리스트 처리 후 한 번에 ack
+    // BatchListenerFailedException 이면 실패한 레코드부터 다시 받아 재시도, 재시도가 끝나면 해당 레코드는 로그를 남기고 건너뜀
+    // 파싱 실패는 재시도해도 같으므로 바로 건너뜀
+    // 동시 수정으로 반영하지 못한 경우는 건너뛰면 포인트가 유실되므로 반영될 때까지 재시도, 이미 반영된 레코드는 sourceKey 로 걸러짐
+    @Bean(name = BATCH_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(ConsumerFactory<Object, Object> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(new FixedBackOff(RETRY_INTERVAL_MILLIS, MAX_RETRIES));
+        errorHandler.addNotRetryableExceptions(JsonParseException.class);
+        errorHandler.setBackOffFunction((record, e) -> isPointConflict(e) ? new FixedBackOff(RETRY_INTERVAL_MILLIS, FixedBackOff.UNLIMITED_ATTEMPTS) : null);
+        factory.setCommonErrorHandler(errorHandler);
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(BATCH_MAX_POLL_RECORDS));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+        return factory;
+    }
+
+    private boolean isPointConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MemberPointConflictException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,26 +1,33 @@
 package aiku_main.kafka;
 
 import aiku_main.application_event.event.PointChangeEvent;
-import aiku_main.application_event.event.PointChangeReason;
-import aiku_main.application_event.event.PointChangeType;
+import aiku_main.exception.MemberPointConflictException;
+import aiku_main.service.member.MemberPointChangeFacade;
 import aiku_main.service.schedule.ScheduleService;
+import common.exception.JsonParseException;
 import common.kafka_message.ScheduleCloseMessage;
 import common.util.ObjectMapperUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class KafkaConsumerService {
 
     private final ScheduleService scheduleService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final MemberPointChangeFacade pointChangeFacade;
 
     @KafkaListener(topics = {"test"}, groupId = "test", concurrency = "1")
     public void consumeTest(ConsumerRecord<String, String> data, Acknowledgment ack) {
@@ -36,27 +43,44 @@ public class KafkaConsumerService {
         ack.acknowledge();
     }
 
-    @KafkaListener(topics = {"point-change"}, groupId = "aiku-main", concurrency = "1")
-    public void consumePointChangeEvent(ConsumerRecord<String, String> data, Acknowledgment ack) {
-        PointChangeEvent message = ObjectMapperUtil.parseJson(data.value(), PointChangeEvent.class);
-        publishPointChangeEvent(message.getMemberId(),
-                message.getSign(),
-                message.getPointAmount(),
-                message.getReason(),
-                message.getReasonId()
-        );
+    // 여러 레코드를 한 번에 받아 멤버별로 합산해 반영
+    // 레코드 위치를 sourceKey 로 붙여, 재전달되어도 이미 반영된 레코드는 다시 반영하지 않음
+    // 파싱할 수 없는 레코드가 있으면 그 앞 레코드까지만 반영하고 실패 위치를 알려, 에러 핸들러가 해당 레코드만 건너뛰고 이어서 처리
+    // 동시 수정이나 중복 반영 충돌로 재시도를 모두 소진하면 반영하지 못한 첫 위치를 알려, 에러 핸들러가 그 레코드부터 다시 전달
+    @KafkaListener(topics = {"point-change"}, groupId = "aiku-main", concurrency = "1",
+            containerFactory = KafkaConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void consumePointChangeEvents(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        List<PointChangeEvent> events = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            try {
+                events.add(ObjectMapperUtil.parseJson(record.value(), PointChangeEvent.class).withSourceKey(getSourceKey(record)));
+            } catch (JsonParseException e) {
+                makePointChanges(events);
+                throw new BatchListenerFailedException("KafkaConsumerService.consumePointChangeEvents cannot parse record", e, i);
+            }
+        }
+        makePointChanges(events);
 
         ack.acknowledge();
     }
 
-    private void publishPointChangeEvent(Long memberId, PointChangeType changeType, int pointAmount, PointChangeReason reason, Long reasonId){
-        PointChangeEvent event = new PointChangeEvent(
-                memberId,
-                changeType,
-                pointAmount,
-                reason,
-                reasonId
-        );
-        eventPublisher.publishEvent(event);
+    private void makePointChanges(List<PointChangeEvent> events) {
+        try {
+            pointChangeFacade.makePointChanges(events);
+        } catch (MemberPointConflictException e) {
+            Set<PointChangeEvent> failedEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+            failedEvents.addAll(e.getFailedEvents());
+
+            int failedIndex = 0;
+            while (failedIndex < events.size() && !failedEvents.contains(events.get(failedIndex))) {
+                failedIndex++;
+            }
+            throw new BatchListenerFailedException("KafkaConsumerService.consumePointChangeEvents optimistic lock retries exhausted", e, failedIndex);
+        }
+    }
+
+    private String getSourceKey(ConsumerRecord<String, String> record) {
+        return record.topic() + "-" + record.partition() + "-" + record.offset();
     }
 }
@@ -6,6 +6,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 @RequiredArgsConstructor
 @Service
 public class KafkaProducerService {
@@ -16,4 +20,20 @@ public class KafkaProducerService {
         String messageStr = ObjectMapperUtil.toJson(message);
         kafkaTemplate.send(topic.getName(), messageStr);
     }
+
+    // 브로커 응답까지 기다려 전송 실패를 호출한 쪽에서 알 수 있도록 함, 실패하거나 timeout 이 지나면 CompletionException
+    public void sendMessageAndWait(KafkaTopic topic, Object message, Duration timeout){
+        String messageStr = ObjectMapperUtil.toJson(message);
+        kafkaTemplate.send(topic.getName(), messageStr)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .join();
+    }
+
+    // 여러 메시지를 모두 직렬화한 뒤 연달아 전송
+    public void sendMessages(KafkaTopic topic, List<?> messages){
+        List<String> messageStrs = messages.stream()
+                .map(ObjectMapperUtil::toJson)
+                .toList();
+        messageStrs.forEach(messageStr -> kafkaTemplate.send(topic.getName(), messageStr));
+    }
 }
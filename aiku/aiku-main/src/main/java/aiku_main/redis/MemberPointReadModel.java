@@ -0,0 +1,42 @@
+package aiku_main.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/*
+멤버 포인트 읽기 모델
+member-point:{memberId} (HASH) : point, version(Member 의 @Version)
+포인트 변화가 커밋된 뒤 최신 값으로 갱신하며, version 이 더 큰 값만 반영
+포인트 사전 검증에만 사용하고 실제 차감 가능 여부는 DB 에서 커밋 시 확인
+map 모듈도 같은 키를 읽음
+ */
+@RequiredArgsConstructor
+@Component
+public class MemberPointReadModel {
+
+    private static final String KEY_PREFIX = "member-point:";
+    private static final String POINT_FIELD = "point";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private static final RedisScript<Long> UPDATE_IF_NEWER_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/update_member_point_if_newer.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<Integer> getPoint(Long memberId) {
+        Object point = redisTemplate.opsForHash().get(KEY_PREFIX + memberId, POINT_FIELD);
+        return Optional.ofNullable(point).map(value -> Integer.parseInt((String) value));
+    }
+
+    public void update(Long memberId, int point, Long version) {
+        redisTemplate.execute(UPDATE_IF_NEWER_SCRIPT, List.of(KEY_PREFIX + memberId),
+                String.valueOf(point), String.valueOf(version == null ? 0 : version), String.valueOf(TTL.toSeconds()));
+    }
+}
@@ -0,0 +1,56 @@
+package aiku_main.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+포인트 대사 작업 진행 상황
+point-reconciliation:checkpoint (HASH) : 파티션 시작 멤버 id -> 마지막으로 확인한 멤버 id
+중단된 작업은 파티션마다 마지막으로 확인한 멤버 다음부터 이어서 진행, 전체 작업이 끝나면 삭제
+point-reconciliation:lock : 한 번에 한 인스턴스만 실행, 값으로 lock 을 얻은 실행의 토큰을 두고 같은 토큰일 때만 해제
+ */
+@RequiredArgsConstructor
+@Component
+public class PointReconciliationCheckpoint {
+
+    private static final String CHECKPOINT_KEY = "point-reconciliation:checkpoint";
+    private static final String LOCK_KEY = "point-reconciliation:lock";
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release_point_reconciliation_lock.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<Long> getLastMemberId(long partitionStartId) {
+        Object lastMemberId = redisTemplate.opsForHash().get(CHECKPOINT_KEY, String.valueOf(partitionStartId));
+        return Optional.ofNullable(lastMemberId).map(value -> Long.parseLong((String) value));
+    }
+
+    public void save(long partitionStartId, long lastMemberId) {
+        redisTemplate.opsForHash().put(CHECKPOINT_KEY, String.valueOf(partitionStartId), String.valueOf(lastMemberId));
+    }
+
+    public void clear() {
+        redisTemplate.delete(CHECKPOINT_KEY);
+    }
+
+    // lock 을 얻으면 해제할 때 쓸 토큰을 반환
+    public Optional<String> tryLock(Duration lease) {
+        String token = UUID.randomUUID().toString();
+        boolean locked = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lease));
+        return locked ? Optional.of(token) : Optional.empty();
+    }
+
+    // lease 가 지나 다른 인스턴스가 lock 을 얻었으면 지우지 않음
+    public boolean unlock(String token) {
+        Long released = redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+        return released != null && released == 1;
+    }
+}
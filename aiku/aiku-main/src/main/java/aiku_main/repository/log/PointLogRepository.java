@@ -1,7 +1,22 @@
 package aiku_main.repository.log;
 
+import aiku_main.dto.log.PointLogSumDto;
 import common.domain.log.PointLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface PointLogRepository extends JpaRepository<PointLog, Long> {
+
+    // idx_point_log_member(memberId, pointLogId) 범위 조회, 합계는 DB 에서 계산
+    @Query("SELECT new aiku_main.dto.log.PointLogSumDto(p.memberId, SUM(p.pointAmount)) FROM PointLog p " +
+            "WHERE p.memberId BETWEEN :fromMemberId AND :toMemberId GROUP BY p.memberId")
+    List<PointLogSumDto> sumPointAmountByMemberIdBetween(Long fromMemberId, Long toMemberId);
+
+    // uk_point_log_source 로 조회, 이미 반영된 Kafka 레코드 확인용
+    @Query("SELECT p.sourceKey FROM PointLog p WHERE p.sourceKey IN :sourceKeys")
+    Set<String> findSourceKeysIn(Collection<String> sourceKeys);
 }
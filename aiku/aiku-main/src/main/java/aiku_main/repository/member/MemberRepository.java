@@ -1,15 +1,19 @@
 package aiku_main.repository.member;
 
+import aiku_main.dto.member.MemberPointDto;
 import common.domain.Status;
 import common.domain.member.Member;
 import common.domain.member.OauthProvider;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -28,4 +32,24 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")})
     @Query("SELECT m FROM Member m WHERE m.id = :memberId")
     Optional<Member> findByMemberIdForUpdate(Long memberId);
+
+    @Query("SELECT new aiku_main.dto.member.MemberPointDto(m.id, m.point, m.version) FROM Member m WHERE m.id = :memberId")
+    Optional<MemberPointDto> findMemberPoint(Long memberId);
+
+    @Query("SELECT MAX(m.id) FROM Member m")
+    Optional<Long> findMaxMemberId();
+
+    // (lastMemberId, toMemberId] 범위를 id 순으로 키셋 페이징
+    @Query("SELECT new aiku_main.dto.member.MemberPointDto(m.id, m.point, m.version) FROM Member m " +
+            "WHERE m.id > :lastMemberId AND m.id <= :toMemberId ORDER BY m.id")
+    List<MemberPointDto> findMemberPointsAfter(Long lastMemberId, Long toMemberId, Pageable pageable);
+
+    // version 컬럼이 null 로 추가된 기존 회원을 0 으로 채움, null 이면 version 조건이 맞지 않아 포인트를 변경할 수 없음
+    @Modifying
+    @Query("UPDATE Member m SET m.version = 0 WHERE m.version IS NULL")
+    int backfillNullVersions();
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Member m SET m.point = :point, m.version = m.version + 1 WHERE m.id = :memberId AND m.version = :version")
+    int updatePointIfVersion(Long memberId, int point, Long version);
 }
@@ -3,8 +3,10 @@ package aiku_main.repository.schedule;
 import aiku_main.dto.schedule.result.arrival_time.ScheduleArrivalResult;
 import aiku_main.dto.*;
 import aiku_main.dto.schedule.MemberScheduleListEachResDto;
+import aiku_main.dto.schedule.ScheduleAlarmTokenDto;
 import aiku_main.dto.schedule.ScheduleMemberResDto;
 import aiku_main.dto.schedule.SchedulePreviewResDto;
+import aiku_main.dto.schedule.ScheduleTriggerDto;
 import aiku_main.dto.schedule.TeamScheduleListEachResDto;
 import common.domain.ExecStatus;
 import common.domain.schedule.Schedule;
@@ -25,6 +27,8 @@ public interface ScheduleRepositoryCustom {
     List<ScheduleMember> findEarlyScheduleMemberWithMember(Long scheduleId);
     List<ScheduleMember> findWaitScheduleMemberWithScheduleInTeam(Long memberId, Long teamId);
     List<ScheduleMember> findScheduleMembersWithMember(Long scheduleId);
+    List<Schedule> findSchedulesToOpenForUpdate(LocalDateTime from, LocalDateTime to);
+    List<Schedule> findRunSchedulesStartingBetween(LocalDateTime from, LocalDateTime to);
 
     Optional<Long> findScheduleMemberId(Long memberId, Long scheduleId);
     Optional<Long> findMemberIdOfScheduleMember(Long scheduleMemberId);
@@ -37,6 +41,9 @@ public interface ScheduleRepositoryCustom {
     int countMemberScheduleByScheduleStatus(Long memberId, ExecStatus scheduleStatus, SearchDateCond dateCond);
     List<LocalDateTime> findScheduleDatesInMonth(Long memberId, int year, int month);
     List<String> findAlarmTokenListOfScheduleMembers(Long scheduleId, Long excludeMemberId);
+    List<ScheduleAlarmTokenDto> findAlarmTokensOfScheduleMembers(List<Long> scheduleIds);
+    long openSchedules(List<Long> scheduleIds);
+    List<ScheduleTriggerDto> findTriggerSchedulesInTimeRange(LocalDateTime from, LocalDateTime to, LocalDateTime lastScheduleTime, Long lastScheduleId, int size);
 
     SchedulePreviewResDto getSchedulePreview(Long scheduleId);
     List<ScheduleMemberResDto> getScheduleMembersWithBettingInfo(Long memberId, Long scheduleId);
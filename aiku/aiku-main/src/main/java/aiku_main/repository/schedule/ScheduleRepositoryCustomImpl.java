@@ -10,6 +10,7 @@ import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import common.domain.ExecStatus;
 import common.domain.schedule.*;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
@@ -448,6 +449,83 @@ public class ScheduleRepositoryCustomImpl implements ScheduleRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<Schedule> findSchedulesToOpenForUpdate(LocalDateTime from, LocalDateTime to) {
+        return query
+                .selectFrom(schedule)
+                .where(
+                        schedule.scheduleTime.between(from, to),
+                        schedule.scheduleStatus.eq(WAIT),
+                        schedule.status.eq(ALIVE)
+                )
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public List<Schedule> findRunSchedulesStartingBetween(LocalDateTime from, LocalDateTime to) {
+        return query
+                .selectFrom(schedule)
+                .where(
+                        schedule.scheduleTime.gt(from),
+                        schedule.scheduleTime.loe(to),
+                        schedule.scheduleStatus.eq(RUN),
+                        schedule.status.eq(ALIVE)
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<ScheduleAlarmTokenDto> findAlarmTokensOfScheduleMembers(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) return List.of();
+
+        return query
+                .select(Projections.constructor(
+                        ScheduleAlarmTokenDto.class,
+                        scheduleMember.schedule.id,
+                        member.firebaseToken))
+                .from(scheduleMember)
+                .innerJoin(scheduleMember.member, member)
+                .where(
+                        scheduleMember.schedule.id.in(scheduleIds),
+                        scheduleMember.status.eq(ALIVE)
+                )
+                .fetch();
+    }
+
+    @Override
+    public long openSchedules(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) return 0;
+
+        return query
+                .update(schedule)
+                .set(schedule.scheduleStatus, RUN)
+                .where(
+                        schedule.id.in(scheduleIds),
+                        schedule.scheduleStatus.eq(WAIT)
+                )
+                .execute();
+    }
+
+    @Override
+    public List<ScheduleTriggerDto> findTriggerSchedulesInTimeRange(LocalDateTime from, LocalDateTime to, LocalDateTime lastScheduleTime, Long lastScheduleId, int size) {
+        return query
+                .select(Projections.constructor(
+                        ScheduleTriggerDto.class,
+                        schedule.id,
+                        schedule.scheduleTime))
+                .from(schedule)
+                .where(
+                        schedule.scheduleTime.between(from, to),
+                        schedule.scheduleStatus.in(WAIT, RUN),
+                        schedule.status.eq(ALIVE),
+                        afterScheduleKey(lastScheduleTime, lastScheduleId)
+                )
+                .orderBy(schedule.scheduleTime.asc(), schedule.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
     @Override
     public SchedulePreviewResDto getSchedulePreview(Long scheduleId) {
         return query
@@ -525,6 +603,14 @@ public class ScheduleRepositoryCustomImpl implements ScheduleRepositoryCustom {
         return  (endDate != null) ? schedule.scheduleTime.loe(endDate) : null;
     }
 
+    // (scheduleTime, id) 키셋 페이징, 첫 페이지면 조건 없음
+    private BooleanExpression afterScheduleKey(LocalDateTime lastScheduleTime, Long lastScheduleId) {
+        if (lastScheduleTime == null) return null;
+
+        return schedule.scheduleTime.gt(lastScheduleTime)
+                .or(schedule.scheduleTime.eq(lastScheduleTime).and(schedule.id.gt(lastScheduleId)));
+    }
+
     private BooleanExpression memberNotEqual(Long id){
         return id != null ? member.id.ne(id) : null;
     }
@@ -0,0 +1,72 @@
+package aiku_main.scheduler;
+
+import aiku_main.dto.log.PointReconciliationResult;
+import aiku_main.redis.PointReconciliationCheckpoint;
+import aiku_main.service.log.PointReconciliationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+
+// 매일 포인트 대사 실행, 여러 인스턴스 중 lock 을 얻은 한 곳만 실행하고 실패하면 다음 실행에서 체크포인트부터 이어서 진행
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PointReconciliationScheduler {
+
+    private static final Duration LOCK_LEASE = Duration.ofHours(6);
+
+    private final TaskScheduler scheduler;
+    private final PointReconciliationService reconciliationService;
+    private final PointReconciliationCheckpoint checkpoint;
+
+    @Value("${point.reconciliation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${point.reconciliation.cron:0 0 4 * * *}")
+    private String cron;
+
+    @Value("${point.reconciliation.repair:false}")
+    private boolean repair;
+
+    private ScheduledFuture<?> reconcileTask;
+
+    @PostConstruct
+    public void initScheduler(){
+        if (!enabled) return;
+
+        reconcileTask = scheduler.schedule(this::reconcile, new CronTrigger(cron));
+    }
+
+    @PreDestroy
+    public void stopScheduler(){
+        if (reconcileTask != null) {
+            reconcileTask.cancel(false);
+        }
+    }
+
+    void reconcile(){
+        Optional<String> lockToken = checkpoint.tryLock(LOCK_LEASE);
+        if (lockToken.isEmpty()) return;
+
+        try {
+            PointReconciliationResult result = reconciliationService.reconcile(repair);
+            log.info("PointReconciliationScheduler.reconcile checked = {}, drifted = {}, repaired = {}",
+                    result.getCheckedCount(), result.getDriftedCount(), result.getRepairedCount());
+        } catch (Exception e) {
+            log.error("PointReconciliationScheduler.reconcile failed", e);
+        } finally {
+            if (!checkpoint.unlock(lockToken.get())) {
+                log.warn("PointReconciliationScheduler.reconcile lock lease expired before finishing");
+            }
+        }
+    }
+}
@@ -1,49 +1,95 @@
 package aiku_main.scheduler;
 
-import aiku_main.application_event.event.ScheduleOpenEvent;
+import aiku_main.application_event.event.ScheduleTickEvent;
+import aiku_main.dto.schedule.ScheduleTriggerDto;
 import aiku_main.kafka.KafkaProducerService;
 import aiku_main.repository.schedule.ScheduleRepository;
-import common.domain.ExecStatus;
 import common.domain.schedule.Schedule;
 import common.kafka_message.ScheduleCloseMessage;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 
 import static common.kafka_message.KafkaTopic.SCHEDULE_AUTO_CLOSE;
 
-
+/*
+스케줄 자동 종료(30분 후) 트리거를 ScheduleTriggerStore(Redis)에 예약하고
+모든 인스턴스가 주기적으로 실행 시각이 된 트리거를 claim 해 실행
+claim 된 트리거는 한 인스턴스만 실행하므로 인스턴스 수와 관계없이 트리거마다 한 번 실행됨
+전송에 성공한 트리거만 complete 하고, 실패한 트리거는 lease 만료 후 다시 대기 트리거로 복구되어 재실행
+한 번에 가져간 트리거는 모두 lease 안에 전송을 마치도록 CLAIM_SIZE * PUBLISH_TIMEOUT 을 lease 보다 짧게 두고,
+그래도 lease 가 얼마 남지 않으면 남은 트리거는 실행하지 않아 다른 인스턴스와 중복 실행하지 않음
+
+스케줄 열기(30분 전)와 시작 알림은 스케줄마다 트리거를 두지 않고, 1분마다 한 인스턴스에서
+ScheduleTickEvent 를 발행해 해당 시각에 열거나 알릴 스케줄을 한 번에 처리
+
+트리거는 TRIGGER_HORIZON 안에 실행될 것만 예약하고, 그 이후 트리거는 REFILL_INTERVAL 마다
+DB 에서 (스케줄 시각, id) 키셋 페이징으로 다음 구간을 조회해 채움
+시작 시 전체 스케줄을 불러오지 않으므로 시작 시간과 메모리가 미래 스케줄 수와 무관
+ */
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class ScheduleScheduler {
 
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final int CLAIM_SIZE = 10;
+    private static final long LEASE_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final Duration PUBLISH_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration TRIGGER_HORIZON = Duration.ofHours(2);
+    private static final Duration REFILL_INTERVAL = Duration.ofMinutes(30); // TRIGGER_HORIZON 보다 짧아야 구간 사이에 빈틈이 없음
+    private static final int REFILL_PAGE_SIZE = 500;
+    private static final Duration TRIGGER_OFFSET = Duration.ofMinutes(30); // 스케줄 시각과 자동 종료 시각의 차이
+    private static final Duration TICK_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration MAX_REMIND_DELAY = Duration.ofMinutes(10); // 중단 후 재시작 시 이보다 오래된 시작 알림은 보내지 않음
+
     private final TaskScheduler scheduler;
     private final ScheduleRepository scheduleRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final KafkaProducerService kafkaProducerService;
+    private final ScheduleTriggerStore triggerStore;
 
-    private final ConcurrentHashMap<Long, ScheduledFuture> scheduleOpenTasks = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<Long, ScheduledFuture> scheduleAutoCloseTasks = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<Long, ScheduledFuture> scheduleAlarmTasks = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> pollingTask;
+    private ScheduledFuture<?> refillTask;
+    private ScheduledFuture<?> tickTask;
 
     @PostConstruct
     public void initScheduler(){
-        List<Schedule> schedules = scheduleRepository.findByScheduleStatus(ExecStatus.WAIT);
-        schedules.forEach(schedule -> reserveSchedule(schedule));
+        // 트리거 채우기는 백그라운드에서 바로 시작, 시작 과정에서는 스케줄을 조회하지 않음
+        refillTask = scheduler.scheduleAtFixedRate(this::refillTriggers, Instant.now(), REFILL_INTERVAL);
+        pollingTask = scheduler.scheduleAtFixedRate(this::fireDueTriggers, POLL_INTERVAL);
+
+        // 매 분 0초에 실행
+        Instant nextMinute = Instant.now().truncatedTo(ChronoUnit.MINUTES).plus(TICK_INTERVAL);
+        tickTask = scheduler.scheduleAtFixedRate(this::tick, nextMinute, TICK_INTERVAL);
+    }
+
+    @PreDestroy
+    public void stopScheduler(){
+        if (refillTask != null) {
+            refillTask.cancel(false);
+        }
+        if (pollingTask != null) {
+            pollingTask.cancel(false);
+        }
+        if (tickTask != null) {
+            tickTask.cancel(false);
+        }
     }
 
     public void reserveSchedule(Schedule schedule){
-        reserveScheduleOpen(schedule);
         reserveScheduleAutoClose(schedule);
-        reserveAlarm(schedule);
     }
 
     public void changeSchedule(Schedule schedule){
@@ -51,75 +97,109 @@ public class ScheduleScheduler {
         reserveSchedule(schedule);
     }
 
-    //TODO Runnable 추가
-    private void reserveAlarm(Schedule schedule){
-        Duration delayTime = getDuration(schedule.getScheduleTime());
-        if(!isValidDuration(delayTime)) return;
-
-        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(()->{}, delayTime);
-        scheduleAlarmTasks.put(schedule.getId(), future);
-    }
-
-    private void reserveScheduleOpen(Schedule schedule){
-        Duration delayTime = getDuration(schedule.getScheduleTime()).minus(Duration.ofMinutes(30));
-        if(!isValidDuration(delayTime)) return;
-
-        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(
-                ()-> publishScheduleOpenEvent(schedule.getId()),
-                delayTime
-        );
-        scheduleOpenTasks.put(schedule.getId(), future);
-    }
-
+    // 예약 범위 밖의 트리거는 이후 refillTriggers 에서 예약
     private void reserveScheduleAutoClose(Schedule schedule){
-        Duration delayTime = getDuration(schedule.getScheduleTime()).plus(Duration.ofMinutes(30));
-        if(!isValidDuration(delayTime)) return;
+        LocalDateTime closeTime = schedule.getScheduleTime().plus(TRIGGER_OFFSET);
+        if(!isInHorizon(closeTime, LocalDateTime.now())) return;
 
-        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(
-                ()-> publishScheduleAutoClose(schedule.getId(), schedule.getScheduleTime()),
-                delayTime
-        );
-        scheduleAutoCloseTasks.put(schedule.getId(), future);
+        triggerStore.reserve(new ScheduleTrigger(ScheduleTriggerType.AUTO_CLOSE, schedule.getId(), closeTime));
     }
 
     public void cancelAll(Long scheduleId){
-        ScheduledFuture future1 = scheduleOpenTasks.get(scheduleId);
-        if (future1 != null) {
-            future1.cancel(false);
-            scheduleOpenTasks.remove(scheduleId);
+        triggerStore.cancelAll(scheduleId);
+    }
+
+    // 예약 범위 안에 실행될 트리거를 DB 에서 id, 시각만 조회해 예약, 이미 예약된 트리거는 그대로 둠
+    void refillTriggers(){
+        if (!triggerStore.tryLeaseRefill(REFILL_INTERVAL.dividedBy(2))) return;
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime from = now.minus(TRIGGER_OFFSET);
+            LocalDateTime to = now.plus(TRIGGER_HORIZON).plus(TRIGGER_OFFSET);
+
+            LocalDateTime lastScheduleTime = null;
+            Long lastScheduleId = null;
+            List<ScheduleTriggerDto> page;
+            do {
+                page = scheduleRepository.findTriggerSchedulesInTimeRange(from, to, lastScheduleTime, lastScheduleId, REFILL_PAGE_SIZE);
+                page.forEach(schedule -> reserveTriggersInHorizon(schedule, now));
+
+                if (!page.isEmpty()) {
+                    ScheduleTriggerDto last = page.get(page.size() - 1);
+                    lastScheduleTime = last.getScheduleTime();
+                    lastScheduleId = last.getScheduleId();
+                }
+            } while (page.size() == REFILL_PAGE_SIZE);
+        } catch (Exception e) {
+            log.error("ScheduleScheduler.refillTriggers failed", e);
         }
+    }
 
-        ScheduledFuture future2 = scheduleAutoCloseTasks.get(scheduleId);
-        if (future2 != null) {
-            future2.cancel(false);
-            scheduleAutoCloseTasks.remove(scheduleId);
+    private void reserveTriggersInHorizon(ScheduleTriggerDto schedule, LocalDateTime now){
+        LocalDateTime closeTime = schedule.getScheduleTime().plus(TRIGGER_OFFSET);
+        if (isInHorizon(closeTime, now)) {
+            triggerStore.reserveIfAbsent(new ScheduleTrigger(ScheduleTriggerType.AUTO_CLOSE, schedule.getScheduleId(), closeTime));
         }
+    }
 
-        ScheduledFuture future3 = scheduleAlarmTasks.get(scheduleId);
-        if (future3 != null) {
-            future3.cancel(false);
-            scheduleAlarmTasks.remove(scheduleId);
+    // 열 스케줄과 시작 알림 대상 스케줄을 한 번에 처리, 분마다 한 인스턴스만 실행
+    void tick(){
+        LocalDateTime tickTime = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        if (!triggerStore.tryLeaseTick(tickTime, TICK_INTERVAL.multipliedBy(2))) return;
+
+        try {
+            LocalDateTime oldestRemindFrom = tickTime.minus(MAX_REMIND_DELAY);
+            LocalDateTime remindFrom = triggerStore.getRemindedUntil()
+                    .filter(remindedUntil -> remindedUntil.isAfter(oldestRemindFrom))
+                    .orElse(tickTime.minus(TICK_INTERVAL));
+
+            eventPublisher.publishEvent(new ScheduleTickEvent(remindFrom, tickTime));
+            triggerStore.setRemindedUntil(tickTime);
+        } catch (Exception e) {
+            log.error("ScheduleScheduler.tick failed at {}", tickTime, e);
         }
     }
 
-    private Duration getDuration(LocalDateTime time){
-        return Duration.between(LocalDateTime.now(), time);
+    // 실행 시각이 된 트리거를 모두 실행, 한 번에 CLAIM_SIZE 개씩 가져감
+    void fireDueTriggers(){
+        try {
+            List<ScheduleTrigger> triggers;
+            do {
+                triggers = triggerStore.claimDue(LocalDateTime.now(), CLAIM_SIZE, LEASE_MILLIS);
+                long fireDeadline = System.currentTimeMillis() + LEASE_MILLIS - PUBLISH_TIMEOUT.toMillis();
+                for (ScheduleTrigger trigger : triggers) {
+                    // 남은 lease 안에 전송을 마칠 수 없으면 중단, 남은 트리거는 lease 만료 후 다시 가져감
+                    if (System.currentTimeMillis() > fireDeadline) return;
+                    fire(trigger);
+                }
+            } while (triggers.size() == CLAIM_SIZE);
+        } catch (Exception e) {
+            log.error("ScheduleScheduler.fireDueTriggers failed", e);
+        }
     }
 
-    private boolean isValidDuration(Duration duration){
-        if(duration.toMinutes() < 0) return false;
-        else return true;
+    private void fire(ScheduleTrigger trigger){
+        try {
+            switch (trigger.type()) {
+                case AUTO_CLOSE -> publishScheduleAutoClose(trigger.scheduleId(), trigger.dueTime());
+            }
+            triggerStore.complete(trigger);
+        } catch (Exception e) {
+            // complete 하지 않으면 lease 만료 후 다시 실행
+            log.error("ScheduleScheduler.fire failed {}, retry after lease expires", trigger, e);
+        }
     }
 
-    private void publishScheduleOpenEvent(Long scheduleId){
-        ScheduleOpenEvent event = new ScheduleOpenEvent(scheduleId);
-        eventPublisher.publishEvent(event);
+    private boolean isInHorizon(LocalDateTime time, LocalDateTime now){
+        return !time.isBefore(now) && time.isBefore(now.plus(TRIGGER_HORIZON));
     }
 
-    private void publishScheduleAutoClose(Long scheduleId, LocalDateTime scheduleTime){
-        kafkaProducerService.sendMessage(
+    private void publishScheduleAutoClose(Long scheduleId, LocalDateTime closeTime){
+        kafkaProducerService.sendMessageAndWait(
                 SCHEDULE_AUTO_CLOSE,
-                new ScheduleCloseMessage(scheduleId, scheduleTime.plusMinutes(30))
+                new ScheduleCloseMessage(scheduleId, closeTime),
+                PUBLISH_TIMEOUT
         );
     }
 }
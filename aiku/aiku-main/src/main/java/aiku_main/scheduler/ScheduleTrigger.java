@@ -0,0 +1,26 @@
+package aiku_main.scheduler;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// Redis 에는 "{type}:{scheduleId}" 형태로 저장
+public record ScheduleTrigger(ScheduleTriggerType type, Long scheduleId, LocalDateTime dueTime) {
+
+    public String member() {
+        return member(type, scheduleId);
+    }
+
+    public static String member(ScheduleTriggerType type, Long scheduleId) {
+        return type.name() + ":" + scheduleId;
+    }
+
+    public static ScheduleTrigger of(String member, long dueMillis) {
+        int separator = member.lastIndexOf(':');
+        return new ScheduleTrigger(
+                ScheduleTriggerType.valueOf(member.substring(0, separator)),
+                Long.parseLong(member.substring(separator + 1)),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(dueMillis), ZoneId.systemDefault())
+        );
+    }
+}
@@ -0,0 +1,118 @@
+package aiku_main.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/*
+스케줄 자동 종료 트리거를 Redis 에 저장
+schedule-trigger:due (ZSET) : 실행 대기 트리거, score 는 실행 시각
+schedule-trigger:leased (ZSET) : 인스턴스가 가져가 실행 중인 트리거, score 는 lease 만료 시각
+schedule-trigger:time (HASH) : 트리거 실행 시각
+
+인스턴스 메모리에는 트리거를 두지 않고, 실행 시각이 된 트리거만 claim 으로 가져가 실행
+Redis 에도 가까운 시간(ScheduleScheduler 의 예약 범위) 안의 트리거만 두고, 이후 트리거는 DB 에서 주기적으로 채움
+claim 은 Lua 스크립트로 대기 -> lease 이동을 원자적으로 처리해 여러 인스턴스 중 한 곳만 실행
+실행 도중 인스턴스가 종료되면 lease 만료 후 다른 인스턴스가 다시 가져감
+ */
+@RequiredArgsConstructor
+@Component
+public class ScheduleTriggerStore {
+
+    private static final String DUE_KEY = "schedule-trigger:due";
+    private static final String LEASED_KEY = "schedule-trigger:leased";
+    private static final String TIME_KEY = "schedule-trigger:time";
+    private static final String REFILL_LOCK_KEY = "schedule-trigger:refill-lock";
+    private static final String TICK_LOCK_KEY_PREFIX = "schedule-trigger:tick-lock:";
+    private static final String REMINDED_UNTIL_KEY = "schedule-trigger:reminded-until";
+
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/claim_schedule_triggers.lua"), List.class);
+    private static final RedisScript<Long> RESERVE_IF_ABSENT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/reserve_schedule_trigger_if_absent.lua"), Long.class);
+    private static final RedisScript<Long> COMPLETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/complete_schedule_trigger.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 같은 트리거를 다시 예약하면 실행 시각만 바뀜
+    public void reserve(ScheduleTrigger trigger) {
+        String member = trigger.member();
+        long dueMillis = toMillis(trigger.dueTime());
+
+        redisTemplate.opsForHash().put(TIME_KEY, member, String.valueOf(dueMillis));
+        redisTemplate.opsForZSet().remove(LEASED_KEY, member);
+        redisTemplate.opsForZSet().add(DUE_KEY, member, dueMillis);
+    }
+
+    // 이미 대기 중이거나 실행 중인 트리거는 그대로 둠
+    public void reserveIfAbsent(ScheduleTrigger trigger) {
+        redisTemplate.execute(RESERVE_IF_ABSENT_SCRIPT, List.of(DUE_KEY, LEASED_KEY, TIME_KEY),
+                trigger.member(), String.valueOf(toMillis(trigger.dueTime())));
+    }
+
+    public void cancelAll(Long scheduleId) {
+        Object[] members = Arrays.stream(ScheduleTriggerType.values())
+                .map(type -> ScheduleTrigger.member(type, scheduleId))
+                .toArray();
+
+        redisTemplate.opsForZSet().remove(DUE_KEY, members);
+        redisTemplate.opsForZSet().remove(LEASED_KEY, members);
+        redisTemplate.opsForHash().delete(TIME_KEY, members);
+    }
+
+    // 실행 시각이 된 트리거를 limit 개까지 가져감, leaseMillis 안에 complete 하지 않으면 다시 대기 트리거로 복구
+    @SuppressWarnings("unchecked")
+    public List<ScheduleTrigger> claimDue(LocalDateTime now, int limit, long leaseMillis) {
+        long nowMillis = toMillis(now);
+        List<String> result = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(DUE_KEY, LEASED_KEY, TIME_KEY),
+                String.valueOf(nowMillis), String.valueOf(nowMillis + leaseMillis), String.valueOf(limit));
+        if (result == null) return List.of();
+
+        List<ScheduleTrigger> triggers = new ArrayList<>(result.size() / 2);
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            triggers.add(ScheduleTrigger.of(result.get(i), Long.parseLong(result.get(i + 1))));
+        }
+        return triggers;
+    }
+
+    public void complete(ScheduleTrigger trigger) {
+        redisTemplate.execute(COMPLETE_SCRIPT, List.of(LEASED_KEY, TIME_KEY), trigger.member());
+    }
+
+    // 여러 인스턴스 중 한 곳만 트리거 채우기를 실행하도록 lease 획득
+    public boolean tryLeaseRefill(Duration lease) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REFILL_LOCK_KEY, "1", lease));
+    }
+
+    // 분 단위 스케줄 열기/알림은 분마다 한 인스턴스만 실행
+    public boolean tryLeaseTick(LocalDateTime tickTime, Duration lease) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(TICK_LOCK_KEY_PREFIX + toMillis(tickTime), "1", lease));
+    }
+
+    // 시작 알림을 보낸 마지막 시각
+    public Optional<LocalDateTime> getRemindedUntil() {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(REMINDED_UNTIL_KEY))
+                .map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(millis)), ZoneId.systemDefault()));
+    }
+
+    public void setRemindedUntil(LocalDateTime time) {
+        redisTemplate.opsForValue().set(REMINDED_UNTIL_KEY, String.valueOf(toMillis(time)));
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
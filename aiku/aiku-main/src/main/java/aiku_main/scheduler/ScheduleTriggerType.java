@@ -0,0 +1,5 @@
+package aiku_main.scheduler;
+
+public enum ScheduleTriggerType {
+    AUTO_CLOSE
+}
@@ -7,11 +7,10 @@ import aiku_main.dto.betting.BettingAddDto;
 import aiku_main.exception.BettingException;
 import aiku_main.exception.ScheduleException;
 import aiku_main.repository.betting.BettingRepository;
-import aiku_main.repository.member.MemberRepository;
 import aiku_main.repository.schedule.ScheduleRepository;
+import aiku_main.service.member.MemberPointReadService;
 import common.domain.betting.Betting;
 import common.domain.schedule.ScheduleMember;
-import common.domain.member.Member;
 import common.domain.value_reference.ScheduleMemberValue;
 import common.exception.NotEnoughPoint;
 import lombok.RequiredArgsConstructor;
@@ -36,21 +35,20 @@ import static common.response.status.BaseErrorCode.*;
 @Service
 public class BettingService {
 
-    private final MemberRepository memberRepository;
     private final BettingRepository bettingRepository;
+    private final MemberPointReadService memberPointReadService;
     private final ScheduleRepository scheduleRepository;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long addBetting(Long memberId, Long scheduleId, BettingAddDto bettingDto){
-        Member member = findMember(memberId);
         checkScheduleWait(scheduleId);
 
-        ScheduleMemberValue bettor = new ScheduleMemberValue(findScheduleMemberId(member.getId(), scheduleId));
+        ScheduleMemberValue bettor = new ScheduleMemberValue(findScheduleMemberId(memberId, scheduleId));
         ScheduleMemberValue bettee = new ScheduleMemberValue(findScheduleMemberId(bettingDto.getBeteeMemberId(), scheduleId));
 
         checkAlreadyHasBetting(bettor.getId(), scheduleId);
-        checkEnoughPoint(member, bettingDto.getPointAmount());
+        checkEnoughPoint(memberId, bettingDto.getPointAmount());
 
         Betting betting = Betting.create(bettor, bettee, bettingDto.getPointAmount());
         bettingRepository.save(betting);
@@ -210,10 +208,6 @@ public class BettingService {
         eventPublisher.publishEvent(event);
     }
 
-    private Member findMember(Long memberId){
-        return memberRepository.findById(memberId).orElseThrow();
-    }
-
     private Betting findBettingById(Long bettingId){
         return bettingRepository.findByIdAndStatus(bettingId, ALIVE)
                 .orElseThrow(() -> new BettingException(NO_SUCH_BETTING));
@@ -247,8 +241,8 @@ public class BettingService {
         }
     }
 
-    private void checkEnoughPoint(Member member, int point){
-        if(member.getPoint() < point){
+    private void checkEnoughPoint(Long memberId, int point){
+        if(!memberPointReadService.hasEnoughPoint(memberId, point)){
             throw new NotEnoughPoint();
         }
     }
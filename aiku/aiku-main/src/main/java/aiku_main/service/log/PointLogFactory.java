@@ -2,91 +2,52 @@ package aiku_main.service.log;
 
 import aiku_main.application_event.event.PointChangeReason;
 import aiku_main.application_event.event.PointChangeType;
-import common.domain.log.*;
-import common.domain.value_reference.*;
+import common.domain.log.PointLog;
+import common.domain.log.PointLogStatus;
+import common.domain.log.PointLogType;
 import org.springframework.stereotype.Component;
 
+import static common.domain.log.PointLogType.*;
+
 @Component
 public class PointLogFactory {
 
     public PointLog createPointLog(PointChangeReason reason, Long memberId, PointChangeType pointChangeType, int pointAmount, Long reasonId) {
+        return createPointLog(reason, memberId, pointChangeType, pointAmount, reasonId, null);
+    }
+
+    public PointLog createPointLog(PointChangeReason reason, Long memberId, PointChangeType pointChangeType, int pointAmount, Long reasonId,
+                                   String sourceKey) {
         // 포인트 부호
         int signedPointAmount = (pointChangeType.equals(PointChangeType.PLUS)) ? pointAmount : (-1) * pointAmount;
 
-        if (reason.equals(PointChangeReason.SCHEDULE_ENTER)) {
-            return new SchedulePointLog(memberId,
-                    signedPointAmount,
-                    "스케줄 입장료 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new ScheduleValue(reasonId));
-        } else if (reason.equals(PointChangeReason.SCHEDULE_EXIT)) {
-            return new SchedulePointLog(memberId,
-                    signedPointAmount,
-                    "스케줄 퇴장 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new ScheduleValue(reasonId));
-        } else if (reason.equals(PointChangeReason.SCHEDULE_REWARD)) {
-            return new SchedulePointLog(memberId,
-                    signedPointAmount,
-                    "스케줄 성실 참가 보상 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new ScheduleValue(reasonId));
-        } else if (reason.equals(PointChangeReason.BETTING)) {
-            return new BettingPointLog(memberId,
-                    signedPointAmount,
-                    "베팅금 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new BettingValue(reasonId));
-        } else if (reason.equals(PointChangeReason.BETTING_CANCLE)) {
-            return new BettingPointLog(memberId,
-                    signedPointAmount,
-                    "베팅 취소 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new BettingValue(reasonId));
-        } else if (reason.equals(PointChangeReason.BETTING_REWARD)) {
-            return new BettingPointLog(memberId,
-                    signedPointAmount,
-                    "베팅 결과 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new BettingValue(reasonId));
-        } else if (reason.equals(PointChangeReason.RACING)) {
-            return new RacingPointLog(memberId,
-                    signedPointAmount,
-                    "레이싱 대결 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new RacingValue(reasonId));
-        } else if (reason.equals(PointChangeReason.RACING_CANCEL)) {
-            return new RacingPointLog(memberId,
-                    signedPointAmount,
-                    "레이싱 취소 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new RacingValue(reasonId));
-        } else if (reason.equals(PointChangeReason.SHOP)) {
-            return new ShopPointLog(memberId,
-                    signedPointAmount,
-                    "아쿠 상점 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new ShopProductValue(reasonId));
-        } else if (reason.equals(PointChangeReason.SHOP_CANCEL)) {
-            return new ShopPointLog(memberId,
-                    signedPointAmount,
-                    "상점 취소 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new ShopProductValue(reasonId));
-        } else if (reason.equals(PointChangeReason.EVENT)) {
-            return new EventLog(memberId,
-                    signedPointAmount,
-                    "이벤트 보상 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new EventValue(reasonId));
-        } else if (reason.equals(PointChangeReason.EVENT_CANCEL)) {
-            return new EventLog(memberId,
-                    signedPointAmount,
-                    "이벤트 보상 : " + signedPointAmount + " 아쿠",
-                    PointLogStatus.ACCEPT,
-                    new EventValue(reasonId));
-        }
+        return switch (reason) {
+            case SCHEDULE_ENTER -> createPointLog(memberId, signedPointAmount, "스케줄 입장료", SCHEDULE, reasonId, sourceKey);
+            case SCHEDULE_EXIT -> createPointLog(memberId, signedPointAmount, "스케줄 퇴장", SCHEDULE, reasonId, sourceKey);
+            case SCHEDULE_REWARD -> createPointLog(memberId, signedPointAmount, "스케줄 성실 참가 보상", SCHEDULE, reasonId, sourceKey);
+            case BETTING -> createPointLog(memberId, signedPointAmount, "베팅금", BETTING, reasonId, sourceKey);
+            case BETTING_CANCLE -> createPointLog(memberId, signedPointAmount, "베팅 취소", BETTING, reasonId, sourceKey);
+            case BETTING_REWARD -> createPointLog(memberId, signedPointAmount, "베팅 결과", BETTING, reasonId, sourceKey);
+            case RACING -> createPointLog(memberId, signedPointAmount, "레이싱 대결", RACING, reasonId, sourceKey);
+            case RACING_CANCEL -> createPointLog(memberId, signedPointAmount, "레이싱 취소", RACING, reasonId, sourceKey);
+            case RACING_REWARD -> createPointLog(memberId, signedPointAmount, "레이싱 결과", RACING, reasonId, sourceKey);
+            case RACING_DRAW -> createPointLog(memberId, signedPointAmount, "레이싱 무승부", SCHEDULE, reasonId, sourceKey);
+            case SHOP -> createPointLog(memberId, signedPointAmount, "아쿠 상점", SHOP, reasonId, sourceKey);
+            case SHOP_CANCEL -> createPointLog(memberId, signedPointAmount, "상점 취소", SHOP, reasonId, sourceKey);
+            case EVENT, EVENT_CANCEL -> createPointLog(memberId, signedPointAmount, "이벤트 보상", EVENT, reasonId, sourceKey);
+            case PAYMENT -> createPointLog(memberId, signedPointAmount, "결제", PAYMENT, reasonId, sourceKey);
+            case PAYMENT_CANCEL -> createPointLog(memberId, signedPointAmount, "결제 취소", PAYMENT, reasonId, sourceKey);
+        };
+    }
 
-        return null;
+    private PointLog createPointLog(Long memberId, int signedPointAmount, String description, PointLogType logType, Long referenceId,
+                                    String sourceKey) {
+        return new PointLog(memberId,
+                signedPointAmount,
+                description + " : " + signedPointAmount + " 아쿠",
+                PointLogStatus.ACCEPT,
+                logType,
+                referenceId,
+                sourceKey);
     }
 }
@@ -1,5 +1,6 @@
 package aiku_main.service.log;
 
+import aiku_main.application_event.event.PointChangeEvent;
 import aiku_main.application_event.event.PointChangeReason;
 import aiku_main.application_event.event.PointChangeType;
 import aiku_main.repository.log.PointLogRepository;
@@ -9,6 +10,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 @Slf4j
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -28,4 +33,31 @@ public class PointLogService {
 
         pointLogRepository.save(pointLog);
     }
+
+    @Transactional
+    public void savePointLogs(List<PointChangeEvent> events) {
+        List<PointLog> pointLogs = events.stream()
+                .map(event -> pointLogFactory.createPointLog(event.getReason(),
+                        event.getMemberId(),
+                        event.getSign(),
+                        event.getPointAmount(),
+                        event.getReasonId(),
+                        event.getSourceKey()))
+                .toList();
+
+        pointLogRepository.saveAll(pointLogs);
+    }
+
+    // 이미 로그로 남은(반영된) 포인트 변화의 sourceKey
+    public Set<String> findAppliedSourceKeys(List<PointChangeEvent> events) {
+        List<String> sourceKeys = events.stream()
+                .map(PointChangeEvent::getSourceKey)
+                .filter(Objects::nonNull)
+                .toList();
+        if (sourceKeys.isEmpty()) {
+            return Set.of();
+        }
+
+        return pointLogRepository.findSourceKeysIn(sourceKeys);
+    }
 }
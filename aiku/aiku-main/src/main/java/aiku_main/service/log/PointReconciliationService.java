@@ -0,0 +1,135 @@
+package aiku_main.service.log;
+
+import aiku_main.dto.log.PointLogSumDto;
+import aiku_main.dto.log.PointReconciliationResult;
+import aiku_main.dto.member.MemberPointDto;
+import aiku_main.redis.PointReconciliationCheckpoint;
+import aiku_main.repository.log.PointLogRepository;
+import aiku_main.repository.member.MemberRepository;
+import aiku_main.service.member.MemberService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+/*
+Member.point 와 PointLog 합계 대사
+멤버 id 를 PARTITION_SIZE 크기의 고정 구간(파티션)으로 나누고 ForkJoinPool 에서 파티션을 나눠 병렬로 확인
+파티션 안에서는 멤버를 id 키셋 페이징으로 PAGE_SIZE 씩 읽고, 같은 id 범위의 로그 합계를 DB 에서 group by 로 계산해 비교
+페이지마다 짧은 조회만 하므로 긴 트랜잭션이 없고, 메모리에는 파티션마다 한 페이지만 둠
+페이지를 마칠 때마다 체크포인트를 저장해 중단 후 다시 실행하면 이어서 진행
+
+멤버를 먼저 읽고 로그 합계를 읽으므로, 그 사이 포인트가 바뀐 멤버는 차이가 있는 것으로 보일 수 있음
+이 경우 version 이 달라져 수정하지 않고 다음 실행에서 다시 확인
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PointReconciliationService {
+
+    private static final long PARTITION_SIZE = 10_000;
+    private static final int PAGE_SIZE = 500;
+
+    private final MemberRepository memberRepository;
+    private final PointLogRepository pointLogRepository;
+    private final MemberService memberService;
+    private final PointReconciliationCheckpoint checkpoint;
+
+    @Value("${point.reconciliation.parallelism:4}")
+    private int parallelism;
+
+    // repair 이면 차이가 있는 멤버의 포인트를 로그 합계로 수정
+    public PointReconciliationResult reconcile(boolean repair) {
+        long maxMemberId = memberRepository.findMaxMemberId().orElse(0L);
+        long partitionCount = (maxMemberId + PARTITION_SIZE - 1) / PARTITION_SIZE;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            PointReconciliationResult result = pool.invoke(new PartitionTask(0, partitionCount, repair));
+            checkpoint.clear();
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // [fromPartition, toPartition) 파티션을 반씩 나눠 처리
+    private class PartitionTask extends RecursiveTask<PointReconciliationResult> {
+
+        private final long fromPartition;
+        private final long toPartition;
+        private final boolean repair;
+
+        PartitionTask(long fromPartition, long toPartition, boolean repair) {
+            this.fromPartition = fromPartition;
+            this.toPartition = toPartition;
+            this.repair = repair;
+        }
+
+        @Override
+        protected PointReconciliationResult compute() {
+            if (toPartition - fromPartition <= 1) {
+                return fromPartition < toPartition ? reconcilePartition(fromPartition, repair) : PointReconciliationResult.empty();
+            }
+
+            long midPartition = (fromPartition + toPartition) >>> 1;
+            PartitionTask left = new PartitionTask(fromPartition, midPartition, repair);
+            PartitionTask right = new PartitionTask(midPartition, toPartition, repair);
+            left.fork();
+            PointReconciliationResult rightResult = right.compute();
+            return left.join().add(rightResult);
+        }
+    }
+
+    private PointReconciliationResult reconcilePartition(long partition, boolean repair) {
+        long startMemberId = partition * PARTITION_SIZE + 1;
+        long endMemberId = (partition + 1) * PARTITION_SIZE;
+        long lastMemberId = checkpoint.getLastMemberId(startMemberId).orElse(startMemberId - 1);
+
+        PointReconciliationResult result = PointReconciliationResult.empty();
+        while (lastMemberId < endMemberId) {
+            List<MemberPointDto> members = memberRepository.findMemberPointsAfter(lastMemberId, endMemberId, PageRequest.of(0, PAGE_SIZE));
+            if (members.isEmpty()) break;
+
+            result = result.add(reconcilePage(members, repair));
+            lastMemberId = members.get(members.size() - 1).getMemberId();
+            checkpoint.save(startMemberId, lastMemberId);
+
+            if (members.size() < PAGE_SIZE) break;
+        }
+
+        checkpoint.save(startMemberId, endMemberId);
+        return result;
+    }
+
+    private PointReconciliationResult reconcilePage(List<MemberPointDto> members, boolean repair) {
+        Long fromMemberId = members.get(0).getMemberId();
+        Long toMemberId = members.get(members.size() - 1).getMemberId();
+        Map<Long, Long> ledgerPoints = pointLogRepository.sumPointAmountByMemberIdBetween(fromMemberId, toMemberId).stream()
+                .collect(Collectors.toMap(PointLogSumDto::getMemberId, PointLogSumDto::getPointAmountSum));
+
+        long driftedCount = 0;
+        long repairedCount = 0;
+        for (MemberPointDto member : members) {
+            long ledgerPoint = ledgerPoints.getOrDefault(member.getMemberId(), 0L);
+            if (member.getPoint() == ledgerPoint) continue;
+
+            driftedCount++;
+            log.warn("PointReconciliationService drifted member : memberId = {}, point = {}, ledgerPoint = {}",
+                    member.getMemberId(), member.getPoint(), ledgerPoint);
+
+            if (repair && memberService.repairMemberPoint(member.getMemberId(), member.getVersion(), (int) ledgerPoint)) {
+                repairedCount++;
+            }
+        }
+
+        return new PointReconciliationResult(members.size(), driftedCount, repairedCount);
+    }
+}
@@ -1,21 +1,34 @@
 package aiku_main.service.member;
 
+import aiku_main.application_event.event.PointChangeEvent;
 import aiku_main.application_event.event.PointChangeReason;
 import aiku_main.application_event.event.PointChangeType;
+import aiku_main.exception.MemberPointConflictException;
 import aiku_main.service.log.PointLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Service
 public class MemberPointChangeFacade {
 
+    private static final int MAX_OPTIMISTIC_LOCK_ATTEMPTS = 3;
+
     private final MemberService memberService;
     private final PointLogService pointLogService;
+    private final MemberPointChangeHelper pointChangeHelper;
+    private final MemberPointLocks memberPointLocks;
 
     @Transactional
     public void makePointChange(Long memberId, PointChangeType pointChangeType, int pointAmount, PointChangeReason pointChangeReason, Long reasonId) {
@@ -26,4 +39,42 @@ public class MemberPointChangeFacade {
 
     }
 
+    // 배치로 받은 포인트 변화를 멤버별로 모아 멤버마다 한 번씩 반영
+    // 배치 전체를 하나의 짧은 트랜잭션으로 처리하고, 인스턴스 안에서는 멤버별 락으로, 인스턴스 사이에서는 낙관적 락(version)으로 동시 수정을 막음
+    // 다른 컨슈머가 같은 레코드를 먼저 반영해 sourceKey 유니크 키가 충돌하면 다시 시도, 재시도에서는 반영된 레코드가 걸러짐
+    // 재시도를 모두 소진하면 예외를 던져 재전달받음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void makePointChanges(List<PointChangeEvent> events) {
+        if (events.isEmpty()) return;
+
+        Set<Long> memberIds = events.stream()
+                .map(PointChangeEvent::getMemberId)
+                .collect(Collectors.toSet());
+
+        boolean applied = memberPointLocks.runWithLocks(memberIds, () -> applyPointChangesWithRetry(events));
+        if (!applied) {
+            throw new MemberPointConflictException(events);
+        }
+    }
+
+    private boolean applyPointChangesWithRetry(List<PointChangeEvent> events) {
+        for (int attempt = 1; attempt <= MAX_OPTIMISTIC_LOCK_ATTEMPTS; attempt++) {
+            try {
+                List<PointChangeEvent> skippedEvents = pointChangeHelper.applyPointChanges(events);
+                skippedEvents.forEach(event -> logFailedPointChange(event.getMemberId(), event));
+                return true;
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("MemberPointChangeFacade optimistic lock conflict : attempt = {}", attempt);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("MemberPointChangeFacade duplicate point log source : attempt = {}", attempt, e);
+            }
+        }
+
+        return false;
+    }
+
+    private void logFailedPointChange(Long memberId, PointChangeEvent event) {
+        log.error("MemberPointChangeFacade.makePointChanges failed : memberId = {}, sign = {}, pointAmount = {}, reason = {}, reasonId = {}",
+                memberId, event.getSign(), event.getPointAmount(), event.getReason(), event.getReasonId());
+    }
 }
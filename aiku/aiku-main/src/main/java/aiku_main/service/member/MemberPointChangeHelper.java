@@ -0,0 +1,78 @@
+package aiku_main.service.member;
+
+import aiku_main.application_event.event.MemberPointChangedEvent;
+import aiku_main.application_event.event.PointChangeEvent;
+import aiku_main.application_event.event.PointChangeType;
+import aiku_main.repository.member.MemberRepository;
+import aiku_main.service.log.PointLogService;
+import common.domain.member.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class MemberPointChangeHelper {
+
+    private final MemberRepository memberRepository;
+    private final PointLogService pointLogService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 배치의 포인트 변화를 하나의 별도 트랜잭션으로 반영, 행 락 없이 조회하고 커밋 시 version 으로 동시 수정 감지
+    // 멤버는 한 번에 조회하고, 로그는 배치 전체를 모아 한 번의 saveAll(JDBC 배치 insert)로 저장
+    // 같은 트랜잭션에서 sourceKey 와 함께 로그를 남기므로, 재전달된 변화는 로그로 확인해 다시 반영하지 않음
+    // 포인트가 부족하거나 멤버가 없어 반영하지 못한 변화를 반환
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<PointChangeEvent> applyPointChanges(List<PointChangeEvent> events) {
+        Set<String> appliedSourceKeys = pointLogService.findAppliedSourceKeys(events);
+        Map<Long, List<PointChangeEvent>> newEventsByMember = events.stream()
+                .filter(event -> event.getSourceKey() == null || !appliedSourceKeys.contains(event.getSourceKey()))
+                .collect(Collectors.groupingBy(PointChangeEvent::getMemberId, TreeMap::new, Collectors.toList()));
+        if (newEventsByMember.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Member> members = memberRepository.findAllById(newEventsByMember.keySet()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        List<PointChangeEvent> appliedEvents = new ArrayList<>();
+        List<PointChangeEvent> skippedEvents = new ArrayList<>();
+        newEventsByMember.forEach((memberId, memberEvents) -> {
+            Member member = members.get(memberId);
+            if (member == null) {
+                skippedEvents.addAll(memberEvents);
+                return;
+            }
+
+            int point = member.getPoint();
+            int netPointAmount = 0;
+            for (PointChangeEvent event : memberEvents) {
+                int signedPointAmount = getSignedPointAmount(event);
+                if (point + netPointAmount + signedPointAmount < 0) {
+                    skippedEvents.add(event);
+                    continue;
+                }
+
+                netPointAmount += signedPointAmount;
+                appliedEvents.add(event);
+            }
+
+            member.updatePointAmount(netPointAmount);
+            eventPublisher.publishEvent(new MemberPointChangedEvent(memberId));
+        });
+
+        pointLogService.savePointLogs(appliedEvents);
+
+        return skippedEvents;
+    }
+
+    private int getSignedPointAmount(PointChangeEvent event) {
+        return event.getSign() == PointChangeType.PLUS ? event.getPointAmount() : (-1) * event.getPointAmount();
+    }
+}
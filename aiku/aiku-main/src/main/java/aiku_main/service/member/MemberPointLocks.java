@@ -0,0 +1,61 @@
+package aiku_main.service.member;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/*
+멤버 포인트 반영 전 인스턴스 안에서 멤버별로 직렬화하는 락
+멤버 수만큼 락을 만들지 않고 고정 개수의 락에 멤버 id 를 나눠 담음(같은 락을 쓰는 다른 멤버도 잠시 대기)
+같은 멤버의 변화가 동시에 DB 까지 가서 낙관적 락 충돌로 재시도되는 일을 줄임
+락 대기 시간은 member.point.lock.wait 타이머로 노출
+ */
+@Component
+public class MemberPointLocks {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+    private final Timer lockWaitTimer;
+
+    public MemberPointLocks(MeterRegistry meterRegistry) {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.lockWaitTimer = meterRegistry.timer("member.point.lock.wait");
+    }
+
+    // 여러 멤버의 락을 락 번호 순서로 모두 잡은 뒤 실행, 같은 락은 한 번만 잡고 순서를 고정해 교착을 막음
+    public <T> T runWithLocks(Collection<Long> memberIds, Supplier<T> task) {
+        int[] stripeIndexes = memberIds.stream()
+                .mapToInt(this::getStripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        long waitStart = System.nanoTime();
+        int locked = 0;
+        try {
+            for (int stripeIndex : stripeIndexes) {
+                stripes[stripeIndex].lock();
+                locked++;
+            }
+            lockWaitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+            return task.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[stripeIndexes[i]].unlock();
+            }
+        }
+    }
+
+    private int getStripeIndex(Long memberId) {
+        return Math.floorMod(memberId.hashCode(), STRIPE_COUNT);
+    }
+}
@@ -0,0 +1,60 @@
+package aiku_main.service.member;
+
+import aiku_main.dto.member.MemberPointDto;
+import aiku_main.redis.MemberPointReadModel;
+import aiku_main.repository.member.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Slf4j
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class MemberPointReadService {
+
+    private final MemberPointReadModel memberPointReadModel;
+    private final MemberRepository memberRepository;
+
+    // 읽기 모델에서 충분하면 DB 조회 없이 true
+    // 읽기 모델에 없거나 부족하다고 나오면 DB 로 다시 확인해 오래된 값 때문에 거절하지 않음
+    public boolean hasEnoughPoint(Long memberId, int point) {
+        if (getCachedPoint(memberId).filter(cachedPoint -> cachedPoint >= point).isPresent()) {
+            return true;
+        }
+
+        return memberRepository.findMemberPoint(memberId)
+                .map(memberPoint -> {
+                    updateReadModel(memberPoint);
+                    return memberPoint.getPoint() >= point;
+                })
+                .orElse(false);
+    }
+
+    // 커밋 이후 호출, 새 트랜잭션에서 커밋된 값을 읽어 반영
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void refresh(Long memberId) {
+        memberRepository.findMemberPoint(memberId).ifPresent(this::updateReadModel);
+    }
+
+    private Optional<Integer> getCachedPoint(Long memberId) {
+        try {
+            return memberPointReadModel.getPoint(memberId);
+        } catch (Exception e) {
+            log.warn("MemberPointReadService.getCachedPoint failed : memberId = {}", memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    private void updateReadModel(MemberPointDto memberPoint) {
+        try {
+            memberPointReadModel.update(memberPoint.getMemberId(), memberPoint.getPoint(), memberPoint.getVersion());
+        } catch (Exception e) {
+            log.warn("MemberPointReadService.updateReadModel failed : memberId = {}", memberPoint.getMemberId(), e);
+        }
+    }
+}
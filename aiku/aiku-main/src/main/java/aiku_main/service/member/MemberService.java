@@ -1,11 +1,13 @@
 package aiku_main.service.member;
 
+import aiku_main.application_event.event.MemberPointChangedEvent;
 import aiku_main.application_event.event.PointChangeType;
 import aiku_main.dto.*;
 import aiku_main.dto.member.*;
 import aiku_main.exception.MemberNotFoundException;
 import aiku_main.exception.TitleException;
 import aiku_main.repository.member.MemberRepository;
+import aiku_main.redis.BackfillMarker;
 import aiku_main.repository.title.TitleRepository;
 import aiku_main.s3.S3ImageProvider;
 import common.domain.member.ServiceAgreement;
@@ -16,6 +18,9 @@ import common.domain.value_reference.TitleMemberValue;
 import common.exception.NotEnoughPoint;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,9 +34,14 @@ import static common.response.status.BaseErrorCode.MEMBER_NOT_WITH_TITLE;
 @RequiredArgsConstructor
 @Service
 public class MemberService {
+
+    private static final String MEMBER_VERSION_BACKFILL = "member-version";
+
     private final MemberRepository memberRepository;
     private final TitleRepository titleRepository;
     private final S3ImageProvider s3ImageProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BackfillMarker backfillMarker;
 
     public MemberResDto getMemberDetail(Long accessMemberId) {
         Member member = getMemberById(accessMemberId);
@@ -143,6 +153,33 @@ public class MemberService {
         }
 
         member.updatePointAmount(signedChangeAmount);
+        eventPublisher.publishEvent(new MemberPointChangedEvent(memberId));
+    }
+
+    // 재시작 시 version 이 null 인 기존 회원 백필, 새 회원은 version 0 으로 저장되므로 한 번만 필요
+    // 채울 행이 없음을 확인한 실행에서 완료 표시, 이후 재시작에서는 회원 전체를 훑는 백필 쿼리를 실행하지 않음
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMemberVersions() {
+        if (backfillMarker.isDone(MEMBER_VERSION_BACKFILL)) return;
+
+        int count = memberRepository.backfillNullVersions();
+        if (count > 0) {
+            log.info("MemberService.backfillMemberVersions filled {} members", count);
+        } else {
+            backfillMarker.markDone(MEMBER_VERSION_BACKFILL);
+        }
+    }
+
+    // 포인트 대사 결과로 포인트를 로그 합계에 맞춤, 조회 이후 포인트가 바뀌었으면(version 불일치) 수정하지 않음
+    @Transactional
+    public boolean repairMemberPoint(Long memberId, Long version, int point) {
+        if (memberRepository.updatePointIfVersion(memberId, point, version) == 0) {
+            return false;
+        }
+
+        eventPublisher.publishEvent(new MemberPointChangedEvent(memberId));
+        return true;
     }
 
     private Long getTitleMemberId(Long titleId, Member member) {
@@ -11,6 +11,7 @@ import aiku_main.repository.member.MemberRepository;
 import aiku_main.repository.schedule.ScheduleRepository;
 import aiku_main.repository.team.TeamRepository;
 import aiku_main.scheduler.ScheduleScheduler;
+import aiku_main.service.member.MemberPointReadService;
 import common.domain.schedule.ScheduleMember;
 import common.domain.member.Member;
 import common.domain.schedule.Schedule;
@@ -54,15 +55,16 @@ public class ScheduleService {
     private final ScheduleScheduler scheduleScheduler;
     private final KafkaProducerService kafkaProducerService;
     private final ApplicationEventPublisher eventPublisher;
+    private final MemberPointReadService memberPointReadService;
 
     @Value("${schedule.fee.participation}")
     private int scheduleEnterPoint;
 
     @Transactional
     public Long addSchedule(Long memberId, Long teamId, ScheduleAddDto scheduleDto){
-        Member member = findMember(memberId);
         checkTeamMember(memberId, teamId);
-        checkEnoughPoint(member, scheduleEnterPoint);
+        checkEnoughPoint(memberId, scheduleEnterPoint);
+        Member member = findMember(memberId);
 
         Schedule schedule = Schedule.create(
                 member,
@@ -121,9 +123,9 @@ public class ScheduleService {
     @Transactional
     public Long enterSchedule(Long memberId, Long teamId, Long scheduleId) {
         checkTeamMember(memberId, teamId);
+        checkEnoughPoint(memberId, scheduleEnterPoint);
 
         Member member = findMember(memberId);
-        checkEnoughPoint(member, scheduleEnterPoint);
 
         Schedule schedule = findSchedule(scheduleId);
         checkScheduleMember(memberId, scheduleId, false);
@@ -328,12 +330,45 @@ public class ScheduleService {
         });
     }
 
+    // 30분 안에 시작하는 대기 스케줄을 한 번에 열고, 멤버 알림을 모아 전송
+    // 자동 종료 시각(시작 30분 후)이 지난 스케줄은 열지 않음
+    // 조회한 스케줄에 쓰기 락을 걸어 조회와 열기 사이에 다른 트랜잭션이 상태를 바꾸지 못하게 하므로, 조회한 스케줄이 곧 열린 스케줄
     @Transactional
-    public void openSchedule(Long scheduleId) {
-        Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow();
-        schedule.setRun();
+    public void openDueSchedules(LocalDateTime now) {
+        List<Schedule> schedules = scheduleRepository.findSchedulesToOpenForUpdate(now.minusMinutes(30), now.plusMinutes(30));
+        if (schedules.isEmpty()) return;
+
+        List<Long> scheduleIds = schedules.stream().map(Schedule::getId).toList();
+        long openCount = scheduleRepository.openSchedules(scheduleIds);
+        if (openCount != scheduleIds.size()) {
+            // 락을 잡은 상태라 일어나지 않아야 함, 어떤 스케줄이 열렸는지 알 수 없으므로 알림을 보내지 않고 트랜잭션 롤백
+            throw new IllegalStateException("openDueSchedules opened " + openCount + " of " + scheduleIds.size() + " schedules");
+        }
+
+        sendMessageToMembersOfSchedules(schedules, AlarmMessageType.SCHEDULE_OPEN);
+    }
+
+    // (from, to] 사이에 시작하는 진행 중 스케줄의 멤버에게 시작 알림
+    public void remindStartingSchedules(LocalDateTime from, LocalDateTime to) {
+        List<Schedule> schedules = scheduleRepository.findRunSchedulesStartingBetween(from, to);
+        if (schedules.isEmpty()) return;
 
-        sendMessageToScheduleMembers(schedule, null, null, AlarmMessageType.SCHEDULE_OPEN);
+        sendMessageToMembersOfSchedules(schedules, AlarmMessageType.SCHEDULE_REMIND);
+    }
+
+    private void sendMessageToMembersOfSchedules(List<Schedule> schedules, AlarmMessageType messageType) {
+        Map<Long, List<String>> alarmTokens = scheduleRepository.findAlarmTokensOfScheduleMembers(
+                        schedules.stream().map(Schedule::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        ScheduleAlarmTokenDto::getScheduleId,
+                        Collectors.mapping(ScheduleAlarmTokenDto::getFirebaseToken, Collectors.toList())
+                ));
+
+        List<ScheduleAlarmMessage> messages = schedules.stream()
+                .map(schedule -> new ScheduleAlarmMessage(alarmTokens.getOrDefault(schedule.getId(), List.of()), messageType, schedule))
+                .toList();
+        kafkaProducerService.sendMessages(ALARM, messages);
     }
 
     @Transactional
@@ -424,8 +459,8 @@ public class ScheduleService {
         }
     }
 
-    private void checkEnoughPoint(Member member, int point){
-        if(member.getPoint() < point){
+    private void checkEnoughPoint(Long memberId, int point){
+        if(!memberPointReadService.hasEnoughPoint(memberId, point)){
             throw new NotEnoughPoint();
         }
     }
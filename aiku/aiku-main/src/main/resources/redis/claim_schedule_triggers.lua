@@ -0,0 +1,25 @@
+-- 실행 시각이 된 스케줄 트리거를 lease 와 함께 가져감, 여러 인스턴스가 동시에 호출해도 트리거마다 한 인스턴스만 가져감
+-- KEYS[1] : 대기 트리거 ZSET (트리거 -> 실행 시각)
+-- KEYS[2] : lease 중인 트리거 ZSET (트리거 -> lease 만료 시각)
+-- KEYS[3] : 트리거 실행 시각 해시 (트리거 -> 실행 시각), lease 만료 후 복구와 실행 시각 전달용
+-- ARGV[1] : 현재 시각(ms)
+-- ARGV[2] : lease 만료 시각(ms)
+-- ARGV[3] : 최대 개수
+-- return  : {트리거, 실행 시각, 트리거, 실행 시각, ...}
+
+-- lease 가 만료된 트리거는 (실행 중 인스턴스 종료 등) 다시 대기 트리거로 복구
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+for _, trigger in ipairs(expired) do
+    redis.call('ZREM', KEYS[2], trigger)
+    redis.call('ZADD', KEYS[1], redis.call('HGET', KEYS[3], trigger) or ARGV[1], trigger)
+end
+
+local result = {}
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[3]))
+for _, trigger in ipairs(due) do
+    redis.call('ZREM', KEYS[1], trigger)
+    redis.call('ZADD', KEYS[2], ARGV[2], trigger)
+    table.insert(result, trigger)
+    table.insert(result, redis.call('HGET', KEYS[3], trigger) or ARGV[1])
+end
+return result
@@ -0,0 +1,8 @@
+-- 실행을 마친 트리거 제거, 실행 중에 다시 예약된 트리거(lease 목록에서 빠짐)의 실행 시각은 유지
+-- KEYS[1] : lease 중인 트리거 ZSET
+-- KEYS[2] : 트리거 실행 시각 해시
+-- ARGV[1] : 트리거
+if redis.call('ZREM', KEYS[1], ARGV[1]) == 1 then
+    redis.call('HDEL', KEYS[2], ARGV[1])
+end
+return 1
@@ -0,0 +1,7 @@
+-- 직접 얻은 lock 일 때만 해제, lease 가 끝나 다른 인스턴스가 얻은 lock 은 유지
+-- KEYS[1] : lock 키
+-- ARGV[1] : lock 을 얻을 때 저장한 토큰
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
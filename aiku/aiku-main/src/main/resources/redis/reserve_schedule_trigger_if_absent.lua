@@ -0,0 +1,12 @@
+-- 대기 중이거나 실행 중인 트리거가 없을 때만 예약, 주기적 채우기가 실행 중인 트리거를 다시 예약하지 않도록 함
+-- KEYS[1] : 대기 트리거 ZSET
+-- KEYS[2] : lease 중인 트리거 ZSET
+-- KEYS[3] : 트리거 실행 시각 해시
+-- ARGV[1] : 트리거
+-- ARGV[2] : 실행 시각(ms)
+if redis.call('ZSCORE', KEYS[2], ARGV[1]) or redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+    return 0
+end
+redis.call('HSET', KEYS[3], ARGV[1], ARGV[2])
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+return 1
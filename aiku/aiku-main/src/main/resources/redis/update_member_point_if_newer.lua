@@ -0,0 +1,11 @@
+-- KEYS[1] = member-point:{memberId}
+-- ARGV[1] = point, ARGV[2] = version, ARGV[3] = ttl(초)
+-- 저장된 것보다 새로운 version 일 때만 갱신해 늦게 도착한 이전 값이 덮어쓰지 않도록 함
+local current = redis.call('HGET', KEYS[1], 'version')
+if current and tonumber(current) >= tonumber(ARGV[2]) then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], 'point', ARGV[1], 'version', ARGV[2])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+return 1
@@ -0,0 +1,164 @@
+package aiku_main.service;
+
+import aiku_main.application_event.event.PointChangeEvent;
+import aiku_main.application_event.event.PointChangeReason;
+import aiku_main.application_event.event.PointChangeType;
+import aiku_main.redis.MemberPointReadModel;
+import aiku_main.repository.log.PointLogRepository;
+import aiku_main.repository.member.MemberRepository;
+import aiku_main.service.member.MemberPointChangeFacade;
+import common.domain.log.PointLog;
+import common.domain.member.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 배치 반영은 멤버마다 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+public class MemberPointChangeFacadeTest {
+
+    @Autowired
+    MemberPointChangeFacade pointChangeFacade;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    PointLogRepository pointLogRepository;
+    @Autowired
+    MemberPointReadModel memberPointReadModel;
+
+    Member member;
+
+    @BeforeEach
+    void beforeEach() {
+        member = memberRepository.save(Member.builder()
+                .nickname(UUID.randomUUID().toString())
+                .build());
+    }
+
+    @AfterEach
+    void afterEach() {
+        pointLogRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void 포인트_변화_배치_처리() {
+        //given
+        List<PointChangeEvent> events = List.of(
+                new PointChangeEvent(member.getId(), PointChangeType.PLUS, 100, PointChangeReason.EVENT, 11L),
+                new PointChangeEvent(member.getId(), PointChangeType.MINUS, 30, PointChangeReason.EVENT_CANCEL, 11L)
+        );
+
+        //when
+        pointChangeFacade.makePointChanges(events);
+
+        //then
+        assertThat(memberRepository.findById(member.getId()).get().getPoint()).isEqualTo(70);
+        assertThat(pointLogRepository.findAll())
+                .extracting(PointLog::getPointAmount)
+                .containsExactlyInAnyOrder(100, -30);
+    }
+
+    @Test
+    void 포인트_변화_배치_처리_여러_멤버() {
+        //given
+        Member otherMember = memberRepository.save(Member.builder()
+                .nickname(UUID.randomUUID().toString())
+                .build());
+        List<PointChangeEvent> events = List.of(
+                new PointChangeEvent(member.getId(), PointChangeType.PLUS, 100, PointChangeReason.EVENT, 11L),
+                new PointChangeEvent(otherMember.getId(), PointChangeType.PLUS, 40, PointChangeReason.EVENT, 11L),
+                new PointChangeEvent(member.getId(), PointChangeType.MINUS, 30, PointChangeReason.EVENT_CANCEL, 11L)
+        );
+
+        //when
+        pointChangeFacade.makePointChanges(events);
+
+        //then
+        assertThat(memberRepository.findById(member.getId()).get().getPoint()).isEqualTo(70);
+        assertThat(memberRepository.findById(otherMember.getId()).get().getPoint()).isEqualTo(40);
+        assertThat(pointLogRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void 포인트_변화_배치_처리_포인트부족_변화만_제외() {
+        //given
+        List<PointChangeEvent> events = List.of(
+                new PointChangeEvent(member.getId(), PointChangeType.PLUS, 100, PointChangeReason.EVENT, 11L),
+                new PointChangeEvent(member.getId(), PointChangeType.MINUS, 500, PointChangeReason.EVENT_CANCEL, 11L),
+                new PointChangeEvent(member.getId(), PointChangeType.MINUS, 30, PointChangeReason.EVENT_CANCEL, 11L)
+        );
+
+        //when
+        pointChangeFacade.makePointChanges(events);
+
+        //then
+        assertThat(memberRepository.findById(member.getId()).get().getPoint()).isEqualTo(70);
+        assertThat(pointLogRepository.findAll())
+                .extracting(PointLog::getPointAmount)
+                .containsExactlyInAnyOrder(100, -30);
+    }
+
+    @Test
+    void 포인트_변화_배치_처리_재전달_중복반영_안됨() {
+        //given
+        List<PointChangeEvent> events = List.of(
+                new PointChangeEvent(member.getId(), PointChangeType.PLUS, 100, PointChangeReason.EVENT, 11L).withSourceKey("point-change-0-1"),
+                new PointChangeEvent(member.getId(), PointChangeType.PLUS, 50, PointChangeReason.EVENT, 12L).withSourceKey("point-change-0-2")
+        );
+        pointChangeFacade.makePointChanges(events.subList(0, 1));
+
+        //when
+        pointChangeFacade.makePointChanges(events);
+
+        //then
+        assertThat(memberRepository.findById(member.getId()).get().getPoint()).isEqualTo(150);
+        assertThat(pointLogRepository.findAll())
+                .extracting(PointLog::getSourceKey)
+                .containsExactlyInAnyOrder("point-change-0-1", "point-change-0-2");
+    }
+
+    @Test
+    void 포인트_변화_배치_처리_읽기모델_갱신() {
+        //given
+        List<PointChangeEvent> events = List.of(
+                new PointChangeEvent(member.getId(), PointChangeType.PLUS, 100, PointChangeReason.EVENT, 11L)
+        );
+
+        //when
+        pointChangeFacade.makePointChanges(events);
+
+        //then
+        assertThat(memberPointReadModel.getPoint(member.getId())).contains(100);
+    }
+
+    @Test
+    void 포인트_변화_배치_동시_처리() throws InterruptedException {
+        //given
+        int batchCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //when
+        for (int i = 0; i < batchCount; i++) {
+            executor.submit(() -> pointChangeFacade.makePointChanges(List.of(
+                    new PointChangeEvent(member.getId(), PointChangeType.PLUS, 10, PointChangeReason.EVENT, 11L)
+            )));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        assertThat(memberRepository.findById(member.getId()).get().getPoint()).isEqualTo(10 * batchCount);
+        assertThat(pointLogRepository.count()).isEqualTo(batchCount);
+    }
+}
@@ -6,6 +6,7 @@ import aiku_main.dto.member.AuthorityUpdateDto;
 import aiku_main.dto.member.MemberResDto;
 import aiku_main.dto.member.TitleMemberResDto;
 import aiku_main.exception.TitleException;
+import aiku_main.redis.BackfillMarker;
 import aiku_main.repository.title.TitleRepository;
 import aiku_main.service.member.MemberService;
 import common.domain.member.Member;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -38,6 +40,12 @@ class MemberServiceTest {
     @Autowired
     TitleRepository titleRepository;
 
+    @Autowired
+    BackfillMarker backfillMarker;
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
     Member member;
 
     Member member2;
@@ -240,4 +248,25 @@ class MemberServiceTest {
         assertThat(authDetail.isLocationPolicyAgreed())
                 .isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void 회원_version_백필_채운_뒤_다음_실행에서_완료_표시() {
+        //given
+        redisTemplate.delete("backfill:member-version");
+        em.flush();
+        em.createQuery("UPDATE Member m SET m.version = NULL WHERE m.id = :memberId")
+                .setParameter("memberId", member.getId())
+                .executeUpdate();
+        em.clear();
+
+        //when
+        memberService.backfillMemberVersions();
+
+        //then
+        assertThat(em.find(Member.class, member.getId()).getVersion()).isEqualTo(0L);
+        assertThat(backfillMarker.isDone("member-version")).isFalse();
+
+        memberService.backfillMemberVersions();
+        assertThat(backfillMarker.isDone("member-version")).isTrue();
+    }
+}
@@ -5,9 +5,9 @@ import aiku_main.application_event.event.PointChangeReason;
 import aiku_main.application_event.event.PointChangeType;
 import aiku_main.application_event.handler.PointChangeEventHandler;
 import aiku_main.repository.log.PointLogRepository;
-import common.domain.log.EventLog;
 import common.domain.log.PointLog;
 import common.domain.log.PointLogStatus;
+import common.domain.log.PointLogType;
 import common.domain.member.Member;
 import common.domain.member.MemberProfileBackground;
 import common.domain.member.MemberProfileCharacter;
@@ -66,9 +66,7 @@ public class PointChangeEventTest {
         assertThat(pointLogs.size()).isEqualTo(1);
         assertThat(pointLogs.get(0).getMemberId()).isEqualTo(member.getId());
         assertThat(pointLogs.get(0).getPointLogStatus()).isEqualTo(PointLogStatus.ACCEPT);
-        assertThat(pointLogs.get(0)).isExactlyInstanceOf(EventLog.class);
-
-        EventLog eventLog = (EventLog) pointLogs.get(0);
-        assertThat(eventLog.getEvent().getId()).isEqualTo(11L);
+        assertThat(pointLogs.get(0).getLogType()).isEqualTo(PointLogType.EVENT);
+        assertThat(pointLogs.get(0).getReferenceId()).isEqualTo(11L);
     }
-}
\ No newline at end of file
+}
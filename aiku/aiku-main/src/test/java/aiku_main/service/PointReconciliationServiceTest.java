@@ -0,0 +1,127 @@
+package aiku_main.service;
+
+import aiku_main.dto.log.PointReconciliationResult;
+import aiku_main.redis.PointReconciliationCheckpoint;
+import aiku_main.repository.log.PointLogRepository;
+import aiku_main.repository.member.MemberRepository;
+import aiku_main.service.log.PointReconciliationService;
+import common.domain.log.PointLog;
+import common.domain.log.PointLogStatus;
+import common.domain.log.PointLogType;
+import common.domain.member.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 대사는 파티션마다 별도 커넥션으로 조회하므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+public class PointReconciliationServiceTest {
+
+    @Autowired
+    PointReconciliationService reconciliationService;
+    @Autowired
+    PointReconciliationCheckpoint checkpoint;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    PointLogRepository pointLogRepository;
+
+    Member driftedMember;
+    Member member;
+
+    @BeforeEach
+    void beforeEach() {
+        checkpoint.clear();
+
+        driftedMember = createMember(100);
+        pointLogRepository.save(createPointLog(driftedMember, 70));
+
+        member = createMember(50);
+        pointLogRepository.save(createPointLog(member, 80));
+        pointLogRepository.save(createPointLog(member, -30));
+    }
+
+    @AfterEach
+    void afterEach() {
+        checkpoint.clear();
+        pointLogRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void 포인트_대사_보고만() {
+        //when
+        PointReconciliationResult result = reconciliationService.reconcile(false);
+
+        //then
+        assertThat(result.getCheckedCount()).isEqualTo(2);
+        assertThat(result.getDriftedCount()).isEqualTo(1);
+        assertThat(result.getRepairedCount()).isZero();
+        assertThat(memberRepository.findById(driftedMember.getId()).get().getPoint()).isEqualTo(100);
+        assertThat(memberRepository.findById(member.getId()).get().getPoint()).isEqualTo(50);
+    }
+
+    @Test
+    void 포인트_대사_수정() {
+        //when
+        PointReconciliationResult result = reconciliationService.reconcile(true);
+
+        //then
+        assertThat(result.getCheckedCount()).isEqualTo(2);
+        assertThat(result.getDriftedCount()).isEqualTo(1);
+        assertThat(result.getRepairedCount()).isEqualTo(1);
+        assertThat(memberRepository.findById(driftedMember.getId()).get().getPoint()).isEqualTo(70);
+        assertThat(memberRepository.findById(member.getId()).get().getPoint()).isEqualTo(50);
+    }
+
+    @Test
+    void 포인트_대사_체크포인트_이후부터_진행() {
+        //given
+        long partitionStartId = (driftedMember.getId() - 1) / 10_000 * 10_000 + 1;
+        checkpoint.save(partitionStartId, driftedMember.getId());
+
+        //when
+        PointReconciliationResult result = reconciliationService.reconcile(true);
+
+        //then
+        assertThat(result.getCheckedCount()).isEqualTo(1);
+        assertThat(result.getDriftedCount()).isZero();
+        assertThat(result.getRepairedCount()).isZero();
+        assertThat(memberRepository.findById(driftedMember.getId()).get().getPoint()).isEqualTo(100);
+    }
+
+    @Test
+    void 포인트_대사_락_다른_토큰으로_해제_불가() {
+        //given
+        Optional<String> lockToken = checkpoint.tryLock(Duration.ofMinutes(1));
+
+        //when
+        boolean releasedByOther = checkpoint.unlock(UUID.randomUUID().toString());
+
+        //then
+        assertThat(lockToken).isPresent();
+        assertThat(releasedByOther).isFalse();
+        assertThat(checkpoint.tryLock(Duration.ofMinutes(1))).isEmpty();
+        assertThat(checkpoint.unlock(lockToken.get())).isTrue();
+    }
+
+    Member createMember(int point) {
+        Member member = Member.builder()
+                .nickname(UUID.randomUUID().toString())
+                .build();
+        member.updatePointAmount(point);
+        return memberRepository.save(member);
+    }
+
+    PointLog createPointLog(Member member, int pointAmount) {
+        return new PointLog(member.getId(), pointAmount, "test", PointLogStatus.ACCEPT, PointLogType.EVENT, 1L);
+    }
+}
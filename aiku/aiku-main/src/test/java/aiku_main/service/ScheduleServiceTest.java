@@ -822,6 +822,31 @@ public class ScheduleServiceTest {
                 .containsExactlyInAnyOrder(10, -20);
     }
 
+    @Test
+    void 스케줄_일괄_열기() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        Schedule dueSchedule = Schedule.create(teamOwner, new TeamValue(team.getId()), "due",
+                now.plusMinutes(20), new Location("loc1", 1.0, 1.0), scheduleEnterPoint);
+        Schedule laterSchedule = Schedule.create(teamOwner, new TeamValue(team.getId()), "later",
+                now.plusHours(2), new Location("loc2", 1.0, 1.0), scheduleEnterPoint);
+        Schedule expiredSchedule = Schedule.create(teamOwner, new TeamValue(team.getId()), "expired",
+                now.minusHours(1), new Location("loc3", 1.0, 1.0), scheduleEnterPoint);
+        em.persist(dueSchedule);
+        em.persist(laterSchedule);
+        em.persist(expiredSchedule);
+        em.flush();
+        em.clear();
+
+        //when
+        scheduleService.openDueSchedules(now);
+
+        //then
+        assertThat(em.find(Schedule.class, dueSchedule.getId()).getScheduleStatus()).isEqualTo(ExecStatus.RUN);
+        assertThat(em.find(Schedule.class, laterSchedule.getId()).getScheduleStatus()).isEqualTo(ExecStatus.WAIT);
+        assertThat(em.find(Schedule.class, expiredSchedule.getId()).getScheduleStatus()).isEqualTo(ExecStatus.WAIT);
+    }
+
     Member createMember(){
         Member member = Member.builder()
                 .nickname(UUID.randomUUID().toString())
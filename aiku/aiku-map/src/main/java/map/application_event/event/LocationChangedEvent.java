@@ -0,0 +1,14 @@
+package map.application_event.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import map.dto.RealTimeLocationResDto;
+
+@AllArgsConstructor
+@Getter
+public class LocationChangedEvent {
+
+    private Long scheduleId;
+    private Long version; // 변경을 저장한 시점의 스케줄 버전
+    private RealTimeLocationResDto location;
+}
@@ -0,0 +1,13 @@
+package map.application_event.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Redis 에 도착 처리를 저장한 뒤 발행, 트랜잭션이 롤백되면 도착 처리를 되돌림
+@AllArgsConstructor
+@Getter
+public class MemberArrivalMarkedEvent {
+
+    private Long memberId;
+    private Long scheduleId;
+}
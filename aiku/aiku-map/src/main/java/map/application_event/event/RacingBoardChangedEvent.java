@@ -0,0 +1,13 @@
+package map.application_event.event;
+
+import lombok.Getter;
+
+@Getter
+public class RacingBoardChangedEvent {
+
+    private Long scheduleId;
+
+    public RacingBoardChangedEvent(Long scheduleId) {
+        this.scheduleId = scheduleId;
+    }
+}
@@ -0,0 +1,22 @@
+package map.application_event.handler;
+
+import lombok.RequiredArgsConstructor;
+import map.application_event.event.LocationChangedEvent;
+import map.service.LocationStreamService;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class LocationChangedEventHandler {
+
+    private final LocationStreamService locationStreamService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publishLocation(LocationChangedEvent event){
+        locationStreamService.publishLocation(event.getScheduleId(), event.getVersion(), event.getLocation());
+    }
+}
@@ -0,0 +1,21 @@
+package map.application_event.handler;
+
+import lombok.RequiredArgsConstructor;
+import map.application_event.event.MemberArrivalMarkedEvent;
+import map.service.MapService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class MemberArrivalMarkedEventHandler {
+
+    private final MapService mapService;
+
+    // Arrival 저장이 롤백되면 Redis 도착 처리도 취소해, 다음 도착 요청이나 자동 도착 감지로 다시 도착 처리될 수 있도록 함
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void cancelArrivedLocation(MemberArrivalMarkedEvent event) {
+        mapService.cancelArrivedLocation(event.getMemberId(), event.getScheduleId());
+    }
+}
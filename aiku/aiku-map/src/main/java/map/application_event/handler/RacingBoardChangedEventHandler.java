@@ -0,0 +1,24 @@
+package map.application_event.handler;
+
+import lombok.RequiredArgsConstructor;
+import map.application_event.event.RacingBoardChangedEvent;
+import map.cache.RacingBoardCache;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class RacingBoardChangedEventHandler {
+
+    private final RacingBoardCache racingBoardCache;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 커밋 이후에 제거해야 다음 조회에서 변경된 상태로 다시 만듦
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictRacingBoard(RacingBoardChangedEvent event){
+        racingBoardCache.evict(event.getScheduleId());
+        redisTemplate.convertAndSend(RacingBoardCache.CHANNEL_PREFIX + event.getScheduleId(), String.valueOf(event.getScheduleId()));
+    }
+}
@@ -3,6 +3,7 @@ package map.application_event.handler;
 import lombok.RequiredArgsConstructor;
 import map.application_event.event.ScheduleAutoCloseEvent;
 import map.application_event.event.ScheduleCloseEvent;
+import map.service.LocationStreamService;
 import map.service.MapService;
 import map.service.RacingService;
 import org.springframework.context.event.EventListener;
@@ -15,6 +16,7 @@ public class ScheduleAutoCloseEventHandler {
 
     private final RacingService racingService;
     private final MapService mapService;
+    private final LocationStreamService locationStreamService;
 
     @Async
     @EventListener
@@ -32,4 +34,16 @@ public class ScheduleAutoCloseEventHandler {
     public void deleteAllLocationsInSchedule(ScheduleAutoCloseEvent event){
         mapService.deleteAllLocationsInSchedule(event.getScheduleId());
     }
+
+    @Async
+    @EventListener
+    public void flushLocationTrail(ScheduleAutoCloseEvent event){
+        mapService.flushLocationTrail(event.getScheduleId());
+    }
+
+    @Async
+    @EventListener
+    public void closeLocationStreams(ScheduleAutoCloseEvent event){
+        locationStreamService.publishClose(event.getScheduleId());
+    }
 }
@@ -2,6 +2,7 @@ package map.application_event.handler;
 
 import lombok.RequiredArgsConstructor;
 import map.application_event.event.ScheduleCloseEvent;
+import map.service.LocationStreamService;
 import map.service.MapService;
 import map.service.RacingService;
 import org.springframework.context.event.EventListener;
@@ -17,6 +18,7 @@ public class ScheduleCloseEventHandler {
 
     private final RacingService racingService;
     private final MapService mapService;
+    private final LocationStreamService locationStreamService;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -32,4 +34,16 @@ public class ScheduleCloseEventHandler {
     public void deleteAllLocationsInSchedule(ScheduleCloseEvent event){
         mapService.deleteAllLocationsInSchedule(event.getScheduleId());
     }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void flushLocationTrail(ScheduleCloseEvent event){
+        mapService.flushLocationTrail(event.getScheduleId());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void closeLocationStreams(ScheduleCloseEvent event){
+        locationStreamService.publishClose(event.getScheduleId());
+    }
 }
@@ -0,0 +1,43 @@
+package map.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import map.dto.RacingResDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/*
+진행 중인 스케줄의 레이싱 현황판(진행 중 레이싱 목록)을 인스턴스 메모리에 유지
+레이싱 조회 요청은 메모리에서 응답하고, 없으면 (최초 조회, 재시작) DB 에서 다시 만듦
+
+레이싱 신청, 수락, 거절, 만료, 승자 종료, 무승부 종료로 레이싱 상태가 바뀌면 커밋 후 Redis 채널(racing-board:{scheduleId})로
+모든 맵 인스턴스에 알리고, 각 인스턴스는 해당 스케줄 현황판을 제거해 다음 조회에서 다시 만듦
+메시지 유실에 대비해 TTL 로도 만료
+ */
+@Component
+public class RacingBoardCache {
+
+    public static final String CHANNEL_PREFIX = "racing-board:";
+
+    private final Cache<Long, List<RacingResDto>> boardCache;
+
+    public RacingBoardCache(@Value("${map.racing-board.max-size:10000}") long maxSize,
+                            @Value("${map.racing-board.ttl-minutes:5}") long ttlMinutes) {
+        this.boardCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public List<RacingResDto> getRacings(Long scheduleId, Supplier<List<RacingResDto>> loader) {
+        return boardCache.get(scheduleId, key -> List.copyOf(loader.get()));
+    }
+
+    public void evict(Long scheduleId) {
+        boardCache.invalidate(scheduleId);
+    }
+}
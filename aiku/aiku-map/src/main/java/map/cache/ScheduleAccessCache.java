@@ -0,0 +1,85 @@
+package map.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import common.domain.Location;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/*
+스케줄 멤버 여부, 스케줄 진행(RUN) 여부 검증 결과와 스케줄 도착지를 인스턴스 메모리에 캐싱
+위치 전송처럼 같은 (멤버, 스케줄) 검증이 반복되는 요청이 MySQL 을 거치지 않도록 함
+
+통과한 결과만 캐싱하므로 스케줄 입장, 스케줄 시작은 다음 요청에서 DB 로 확인됨
+스케줄 퇴장은 Redis 채널(schedule-member-exit:{scheduleId}), 스케줄 종료는 위치 스트림 CLOSE 메시지로
+모든 맵 인스턴스에 전달되어 evict 로 제거하고, 메시지 유실에 대비해 TTL 로도 만료
+스케줄 진행 여부는 종료 후에도 남으면 종료된 스케줄에 위치가 저장되므로 더 짧은 TTL 로 만료
+ */
+@Component
+public class ScheduleAccessCache {
+
+    public static final String CHANNEL_PREFIX = "schedule-member-exit:";
+
+    private final Cache<ScheduleMemberKey, Boolean> scheduleMemberCache;
+    private final Cache<Long, Boolean> runningScheduleCache;
+    private final Cache<Long, Location> destinationCache;
+
+    public ScheduleAccessCache(@Value("${map.schedule-cache.max-size:10000}") long maxSize,
+                               @Value("${map.schedule-cache.ttl-minutes:10}") long ttlMinutes,
+                               @Value("${map.schedule-cache.run-ttl-seconds:60}") long runTtlSeconds) {
+        this.scheduleMemberCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.runningScheduleCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(runTtlSeconds))
+                .build();
+        this.destinationCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public boolean isMemberInSchedule(Long memberId, Long scheduleId, BooleanSupplier loader) {
+        return getOrLoad(scheduleMemberCache, new ScheduleMemberKey(scheduleId, memberId), loader);
+    }
+
+    public boolean isScheduleInRun(Long scheduleId, BooleanSupplier loader) {
+        return getOrLoad(runningScheduleCache, scheduleId, loader);
+    }
+
+    // 도착 반경 확인용 스케줄 도착지
+    public Location getDestination(Long scheduleId, Supplier<Location> loader) {
+        return destinationCache.get(scheduleId, key -> loader.get());
+    }
+
+    // 스케줄 퇴장
+    public void evictScheduleMember(Long scheduleId, Long memberId) {
+        scheduleMemberCache.invalidate(new ScheduleMemberKey(scheduleId, memberId));
+    }
+
+    // 스케줄 종료
+    public void evictSchedule(Long scheduleId) {
+        runningScheduleCache.invalidate(scheduleId);
+        destinationCache.invalidate(scheduleId);
+        scheduleMemberCache.asMap().keySet().removeIf(key -> key.scheduleId().equals(scheduleId));
+    }
+
+    private <K> boolean getOrLoad(Cache<K, Boolean> cache, K key, BooleanSupplier loader) {
+        if (cache.getIfPresent(key) != null) return true;
+
+        boolean result = loader.getAsBoolean();
+        if (result) {
+            cache.put(key, Boolean.TRUE);
+        }
+        return result;
+    }
+
+    private record ScheduleMemberKey(Long scheduleId, Long memberId) {
+    }
+}
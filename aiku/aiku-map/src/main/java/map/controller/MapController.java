@@ -8,7 +8,9 @@ import lombok.extern.slf4j.Slf4j;
 import map.dto.*;
 import map.service.MapService;
 import map.service.RacingService;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -33,17 +35,26 @@ public class MapController {
     @PostMapping("/location")
     public LocationsResponseDto sendLocation(@PathVariable Long scheduleId,
                                                     @RequestHeader(name = "Access-Member-Id") Long accessMemberId,
+                                                    @RequestParam(required = false) Long sinceVersion,
                                                     @RequestBody @Valid RealTimeLocationDto realTimeLocationDto) {
-        LocationsResponseDto locationsResponseDto = mapService.saveAndSendAllLocation(accessMemberId, scheduleId, realTimeLocationDto);
+        LocationsResponseDto locationsResponseDto = mapService.saveAndSendAllLocation(accessMemberId, scheduleId, realTimeLocationDto, sinceVersion);
 
         return locationsResponseDto;
     }
 
     @GetMapping("/location")
     public LocationsResponseDto getLocation(@PathVariable Long scheduleId,
-                                             @RequestHeader(name = "Access-Member-Id") Long accessMemberId) {
+                                             @RequestHeader(name = "Access-Member-Id") Long accessMemberId,
+                                             @RequestParam(required = false) Long sinceVersion) {
 
-        return mapService.getAllLocation(accessMemberId, scheduleId);
+        return mapService.getAllLocation(accessMemberId, scheduleId, sinceVersion);
+    }
+
+    @GetMapping(value = "/location/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLocation(@PathVariable Long scheduleId,
+                                        @RequestHeader(name = "Access-Member-Id") Long accessMemberId) {
+
+        return mapService.subscribeLocation(accessMemberId, scheduleId);
     }
 
     @PostMapping("/arrival")
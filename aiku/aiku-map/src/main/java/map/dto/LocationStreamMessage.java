@@ -0,0 +1,17 @@
+package map.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 맵 인스턴스 간 Redis Pub/Sub 으로 전달되는 위치 스트림 메시지
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationStreamMessage {
+
+    private Long scheduleId;
+    private LocationStreamMessageType type;
+    private Long version;
+    private RealTimeLocationResDto location;
+}
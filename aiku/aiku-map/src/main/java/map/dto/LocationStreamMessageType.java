@@ -0,0 +1,5 @@
+package map.dto;
+
+public enum LocationStreamMessageType {
+    LOCATION, CLOSE
+}
@@ -1,17 +1,33 @@
 package map.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
-import java.util.Map;
 
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
 public class LocationsResponseDto {
 
     private int count;
     private List<RealTimeLocationResDto> locations;
+
+    // 다음 요청의 sinceVersion 으로 사용
+    private Long version;
+    // true : version 이후 위치가 변경된 멤버만 포함, false : 전체 스냅샷 (클라이언트는 전체 재동기화)
+    private Boolean isDelta;
+    // isDelta 일 때 version 이후 만료되어 제거된 멤버, 클라이언트는 해당 멤버 위치 삭제
+    private List<Long> removedMemberIds;
+
+    public LocationsResponseDto(Long version, Boolean isDelta, List<RealTimeLocationResDto> locations) {
+        this(version, isDelta, locations, List.of());
+    }
+
+    public LocationsResponseDto(Long version, Boolean isDelta, List<RealTimeLocationResDto> locations, List<Long> removedMemberIds) {
+        this.count = locations.size();
+        this.locations = locations;
+        this.version = version;
+        this.isDelta = isDelta;
+        this.removedMemberIds = removedMemberIds;
+    }
 }
@@ -0,0 +1,52 @@
+package map.dto;
+
+import common.domain.ExecStatus;
+import common.domain.Status;
+import common.kafka_message.alarm.AlarmMemberInfo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 레이싱 수락/거절/자동 삭제/정산에 필요한 레이싱, 두 레이서, 스케줄 정보를 한 번에 조회한 결과
+@Getter
+@AllArgsConstructor
+public class RacingContext {
+
+    private Long racingId;
+    private Long scheduleId;
+    private String scheduleName;
+    private Integer pointAmount;
+    private ExecStatus raceStatus;
+    private Status status;
+    private Long firstScheduleMemberId;
+    private Long secondScheduleMemberId;
+    private AlarmMemberInfo firstRacerInfo;
+    private AlarmMemberInfo secondRacerInfo;
+    private Integer firstRacerPoint;
+    private Integer secondRacerPoint;
+
+    public boolean bothRacersHaveEnoughPoint() {
+        return firstRacerPoint >= pointAmount && secondRacerPoint >= pointAmount;
+    }
+
+    public boolean isSecondRacer(Long memberId) {
+        return secondRacerInfo.getMemberId().equals(memberId);
+    }
+
+    public AlarmMemberInfo getRacerInfo(Long scheduleMemberId) {
+        return firstScheduleMemberId.equals(scheduleMemberId) ? firstRacerInfo : secondRacerInfo;
+    }
+
+    public Long getOpponentScheduleMemberId(Long scheduleMemberId) {
+        return firstScheduleMemberId.equals(scheduleMemberId) ? secondScheduleMemberId : firstScheduleMemberId;
+    }
+
+    public List<AlarmMemberInfo> getRacerInfos() {
+        return List.of(firstRacerInfo, secondRacerInfo);
+    }
+
+    public List<String> getRacersFcmTokens() {
+        return List.of(firstRacerInfo.getFirebaseToken(), secondRacerInfo.getFirebaseToken());
+    }
+}
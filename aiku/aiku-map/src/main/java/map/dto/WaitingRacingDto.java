@@ -0,0 +1,24 @@
+package map.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import map.application_event.domain.RacingInfo;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class WaitingRacingDto {
+
+    private Long racingId;
+    private Long scheduleId;
+    private String scheduleName;
+    private Long firstRacerId;
+    private Long secondRacerId;
+    private Integer pointAmount;
+    private LocalDateTime createdAt;
+
+    public RacingInfo toRacingInfo() {
+        return new RacingInfo(scheduleId, scheduleName, racingId, firstRacerId, secondRacerId, pointAmount);
+    }
+}
@@ -5,14 +5,16 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import common.kafka_message.RacingPointChangedFailedMessage;
 import common.kafka_message.ScheduleCloseMessage;
+import common.kafka_message.ScheduleExitMessage;
 import common.util.ObjectMapperUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import map.application_event.event.ScheduleAutoCloseEvent;
-import map.application_event.event.ScheduleCloseEvent;
+import map.cache.ScheduleAccessCache;
 import map.service.RacingSagaService;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,7 @@ public class KafkaConsumerService {
 
     private final RacingSagaService racingSagaService;
     private final ApplicationEventPublisher publisher;
+    private final RedisTemplate<String, String> redisTemplate;
 
     @KafkaListener(topics = {"racing-point-failed"}, groupId = "aiku-main", concurrency = "1")
     public void consumeRacingPointChangedFailedMessage(ConsumerRecord<String, String> data, Acknowledgment ack) {
@@ -42,5 +45,13 @@ public class KafkaConsumerService {
         ack.acknowledge();
     }
 
+    // 스케줄 퇴장은 맵 인스턴스 중 하나만 받아 Redis 채널로 모든 인스턴스에 전달, 각 인스턴스는 스케줄 검증 캐시에서 제거
+    // 스케줄 종료는 위치 스트림 CLOSE 메시지로 모든 인스턴스의 캐시가 제거되므로 여기서 받지 않음
+    @KafkaListener(topics = {"schedule-exit"}, groupId = "aiku-map-cache", concurrency = "1")
+    public void consumeScheduleExit(ConsumerRecord<String, String> data, Acknowledgment ack) {
+        ScheduleExitMessage message = ObjectMapperUtil.parseJson(data.value(), ScheduleExitMessage.class);
+        redisTemplate.convertAndSend(ScheduleAccessCache.CHANNEL_PREFIX + message.getScheduleId(), data.value());
 
+        ack.acknowledge();
+    }
 }
@@ -8,6 +8,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @RequiredArgsConstructor
 @Service
 public class KafkaProducerService {
@@ -23,4 +26,18 @@ public class KafkaProducerService {
             throw new JsonParseException();
         }
     }
+
+    // 여러 메시지를 모두 직렬화한 뒤 연달아 전송, 직렬화 실패 시 하나도 전송하지 않음
+    public void sendMessages(KafkaTopic topic, List<?> messages){
+        List<String> messageStrs = new ArrayList<>(messages.size());
+        try {
+            for (Object message : messages) {
+                messageStrs.add(objectMapper.writeValueAsString(message));
+            }
+        } catch (JsonProcessingException e) {
+            throw new JsonParseException();
+        }
+
+        messageStrs.forEach(messageStr -> kafkaTemplate.send(topic.name(), messageStr));
+    }
 }
@@ -0,0 +1,26 @@
+package map.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+기존 데이터를 한 번만 채우면 되는 백필의 완료 표시
+backfill:{name} : 채울 행이 없음을 확인한 백필, 이후 재시작에서는 백필 쿼리를 실행하지 않음
+ */
+@RequiredArgsConstructor
+@Component
+public class BackfillMarker {
+
+    private static final String KEY_PREFIX = "backfill:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public boolean isDone(String name) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + name));
+    }
+
+    public void markDone(String name) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + name, "done");
+    }
+}
@@ -0,0 +1,35 @@
+package map.redis;
+
+import common.util.ObjectMapperUtil;
+import lombok.RequiredArgsConstructor;
+import map.cache.ScheduleAccessCache;
+import map.dto.LocationStreamMessage;
+import map.service.LocationStreamService;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static map.dto.LocationStreamMessageType.CLOSE;
+
+// 다른 맵 인스턴스가 발행한 위치 변경을 현재 인스턴스의 구독자에게 전달
+// 스케줄 종료 메시지는 모든 인스턴스에 전달되므로 스케줄 검증 캐시도 함께 제거
+@RequiredArgsConstructor
+@Component
+public class LocationMessageListener implements MessageListener {
+
+    private final LocationStreamService locationStreamService;
+    private final ScheduleAccessCache scheduleAccessCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        LocationStreamMessage streamMessage = ObjectMapperUtil.parseJson(body, LocationStreamMessage.class);
+
+        if (streamMessage.getType() == CLOSE) {
+            scheduleAccessCache.evictSchedule(streamMessage.getScheduleId());
+        }
+        locationStreamService.dispatch(streamMessage);
+    }
+}
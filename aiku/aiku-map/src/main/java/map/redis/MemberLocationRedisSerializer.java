@@ -0,0 +1,97 @@
+package map.redis;
+
+import map.repository.schedule_location.MemberLocation;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/*
+멤버 위치 레코드 직렬화
+binary : [format(1)][latitude(4)][longitude(4)][flags(1)][savedAt(8)] = 18 bytes
+위경도는 1e-7도 단위 고정소수점 정수로 저장 (약 1cm 정밀도)
+
+legacy : "latitude:longitude:arrived:savedAt" 문자열
+읽기는 두 형식 모두 지원하므로, 배포 중에는 binaryWriteEnabled=false 로 legacy 쓰기를 유지하다
+모든 인스턴스 배포 후 binary 쓰기로 전환하면 진행 중인 스케줄을 비우지 않고 이전 가능
+ */
+public class MemberLocationRedisSerializer implements RedisSerializer<MemberLocation> {
+
+    private static final byte BINARY_FORMAT = 0x01;
+    private static final int BINARY_LENGTH = 18;
+    private static final double FIXED_POINT_SCALE = 10_000_000d;
+    private static final byte ARRIVED_FLAG = 0x01;
+    private static final String LEGACY_DELIMITER = ":";
+
+    private final boolean binaryWriteEnabled;
+
+    public MemberLocationRedisSerializer(boolean binaryWriteEnabled) {
+        this.binaryWriteEnabled = binaryWriteEnabled;
+    }
+
+    @Override
+    public byte[] serialize(MemberLocation location) throws SerializationException {
+        if (location == null) return null;
+
+        if (!binaryWriteEnabled) {
+            return serializeLegacy(location);
+        }
+
+        return ByteBuffer.allocate(BINARY_LENGTH)
+                .put(BINARY_FORMAT)
+                .putInt(toFixedPoint(location.getLatitude()))
+                .putInt(toFixedPoint(location.getLongitude()))
+                .put(location.isArrived() ? ARRIVED_FLAG : 0)
+                .putLong(location.getSavedAt())
+                .array();
+    }
+
+    @Override
+    public MemberLocation deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+
+        // legacy 문자열은 숫자 또는 '-' 로 시작하므로 format 바이트와 겹치지 않음
+        if (bytes.length != BINARY_LENGTH || bytes[0] != BINARY_FORMAT) {
+            return deserializeLegacy(bytes);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, BINARY_LENGTH - 1);
+        double latitude = fromFixedPoint(buffer.getInt());
+        double longitude = fromFixedPoint(buffer.getInt());
+        boolean arrived = (buffer.get() & ARRIVED_FLAG) != 0;
+        long savedAt = buffer.getLong();
+
+        return new MemberLocation(latitude, longitude, arrived, savedAt);
+    }
+
+    private byte[] serializeLegacy(MemberLocation location) {
+        String value = location.getLatitude() + LEGACY_DELIMITER
+                + location.getLongitude() + LEGACY_DELIMITER
+                + location.isArrived() + LEGACY_DELIMITER
+                + location.getSavedAt();
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private MemberLocation deserializeLegacy(byte[] bytes) {
+        try {
+            String[] tokens = new String(bytes, StandardCharsets.UTF_8).split(LEGACY_DELIMITER);
+            return new MemberLocation(
+                    Double.parseDouble(tokens[0]),
+                    Double.parseDouble(tokens[1]),
+                    Boolean.parseBoolean(tokens[2]),
+                    Long.parseLong(tokens[3])
+            );
+        } catch (RuntimeException e) {
+            throw new SerializationException("Cannot deserialize member location", e);
+        }
+    }
+
+    private int toFixedPoint(double degree) {
+        return (int) Math.round(degree * FIXED_POINT_SCALE);
+    }
+
+    private double fromFixedPoint(int value) {
+        return value / FIXED_POINT_SCALE;
+    }
+}
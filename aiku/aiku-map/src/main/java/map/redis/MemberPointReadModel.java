@@ -0,0 +1,33 @@
+package map.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/*
+메인 모듈이 포인트 변화 커밋 후 갱신하는 멤버 포인트 읽기 모델(member-point:{memberId})을 읽기만 함
+값이 없거나 Redis 조회에 실패하면 빈 값을 반환해 DB 로 확인하도록 함
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberPointReadModel {
+
+    private static final String KEY_PREFIX = "member-point:";
+    private static final String POINT_FIELD = "point";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Optional<Integer> getPoint(Long memberId) {
+        try {
+            Object point = redisTemplate.opsForHash().get(KEY_PREFIX + memberId, POINT_FIELD);
+            return Optional.ofNullable(point).map(value -> Integer.parseInt((String) value));
+        } catch (Exception e) {
+            log.warn("MemberPointReadModel.getPoint failed : memberId = {}", memberId, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package map.redis;
+
+import lombok.RequiredArgsConstructor;
+import map.cache.RacingBoardCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// 다른 맵 인스턴스에서 변경된 스케줄의 레이싱 현황판을 현재 인스턴스에서도 제거
+@RequiredArgsConstructor
+@Component
+public class RacingBoardMessageListener implements MessageListener {
+
+    private final RacingBoardCache racingBoardCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        racingBoardCache.evict(Long.parseLong(body));
+    }
+}
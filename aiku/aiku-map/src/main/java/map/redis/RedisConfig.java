@@ -1,15 +1,27 @@
 package map.redis;
 
+import map.cache.RacingBoardCache;
+import map.cache.ScheduleAccessCache;
+import map.repository.schedule_location.MemberLocation;
+import map.service.LocationStreamService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
+
+    // 배포 중 legacy 문자열 쓰기를 유지하려면 false
+    @Value("${map.location.binary-encoding:true}")
+    private boolean binaryEncoding;
+
     @Bean
     public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
@@ -20,4 +32,34 @@ public class RedisConfig {
         redisTemplate.setHashValueSerializer(new StringRedisSerializer());
         return redisTemplate;
     }
+
+    @Bean
+    public MemberLocationRedisSerializer memberLocationRedisSerializer() {
+        return new MemberLocationRedisSerializer(binaryEncoding);
+    }
+
+    @Bean
+    public RedisTemplate<String, MemberLocation> locationRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                                       MemberLocationRedisSerializer memberLocationRedisSerializer) {
+        RedisTemplate<String, MemberLocation> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(memberLocationRedisSerializer);
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(memberLocationRedisSerializer);
+        return redisTemplate;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       LocationMessageListener locationMessageListener,
+                                                                       RacingBoardMessageListener racingBoardMessageListener,
+                                                                       ScheduleExitMessageListener scheduleExitMessageListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(locationMessageListener, new PatternTopic(LocationStreamService.CHANNEL_PREFIX + "*"));
+        container.addMessageListener(racingBoardMessageListener, new PatternTopic(RacingBoardCache.CHANNEL_PREFIX + "*"));
+        container.addMessageListener(scheduleExitMessageListener, new PatternTopic(ScheduleAccessCache.CHANNEL_PREFIX + "*"));
+        return container;
+    }
 }
@@ -0,0 +1,26 @@
+package map.redis;
+
+import common.kafka_message.ScheduleExitMessage;
+import common.util.ObjectMapperUtil;
+import lombok.RequiredArgsConstructor;
+import map.cache.ScheduleAccessCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// 다른 맵 인스턴스가 전달한 스케줄 퇴장을 현재 인스턴스의 스케줄 검증 캐시에서도 제거
+@RequiredArgsConstructor
+@Component
+public class ScheduleExitMessageListener implements MessageListener {
+
+    private final ScheduleAccessCache scheduleAccessCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        ScheduleExitMessage exitMessage = ObjectMapperUtil.parseJson(body, ScheduleExitMessage.class);
+        scheduleAccessCache.evictScheduleMember(exitMessage.getScheduleId(), exitMessage.getMemberId());
+    }
+}
@@ -0,0 +1,42 @@
+package map.repository.emitter;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 현재 인스턴스에 연결된 위치 구독 SseEmitter 저장소 (scheduleId -> emitterId -> SseEmitter)
+@Repository
+public class EmitterRepository {
+
+    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public SseEmitter save(Long scheduleId, String emitterId, SseEmitter emitter) {
+        emitters.compute(scheduleId, (id, scheduleEmitters) -> {
+            if (scheduleEmitters == null) {
+                scheduleEmitters = new ConcurrentHashMap<>();
+            }
+            scheduleEmitters.put(emitterId, emitter);
+            return scheduleEmitters;
+        });
+        return emitter;
+    }
+
+    public Map<String, SseEmitter> findAllByScheduleId(Long scheduleId) {
+        return emitters.getOrDefault(scheduleId, Collections.emptyMap());
+    }
+
+    public void delete(Long scheduleId, String emitterId) {
+        emitters.computeIfPresent(scheduleId, (id, scheduleEmitters) -> {
+            scheduleEmitters.remove(emitterId);
+            return scheduleEmitters.isEmpty() ? null : scheduleEmitters;
+        });
+    }
+
+    public Map<String, SseEmitter> deleteAllByScheduleId(Long scheduleId) {
+        Map<String, SseEmitter> scheduleEmitters = emitters.remove(scheduleId);
+        return scheduleEmitters == null ? Collections.emptyMap() : scheduleEmitters;
+    }
+}
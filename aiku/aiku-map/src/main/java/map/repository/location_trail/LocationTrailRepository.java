@@ -0,0 +1,7 @@
+package map.repository.location_trail;
+
+import common.domain.LocationTrail;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LocationTrailRepository extends JpaRepository<LocationTrail, Long>, LocationTrailRepositoryCustom {
+}
@@ -0,0 +1,10 @@
+package map.repository.location_trail;
+
+import map.repository.schedule_location.LocationTrailPoint;
+
+import java.util.List;
+
+public interface LocationTrailRepositoryCustom {
+    // 이동 경로를 JDBC 배치 insert 로 저장, 이미 저장된 스트림 id 는 무시
+    void saveAllInBatch(Long scheduleId, List<LocationTrailPoint> points);
+}
@@ -0,0 +1,30 @@
+package map.repository.location_trail;
+
+import lombok.RequiredArgsConstructor;
+import map.repository.schedule_location.LocationTrailPoint;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+// IDENTITY 전략은 JPA 배치 insert 가 되지 않아 JdbcTemplate 으로 저장
+// (schedule_id, stream_id) 유니크 키와 INSERT IGNORE 로 이미 저장된 지점은 건너뜀
+@RequiredArgsConstructor
+public class LocationTrailRepositoryCustomImpl implements LocationTrailRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO location_trail (schedule_id, member_id, latitude, longitude, recorded_at, stream_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAllInBatch(Long scheduleId, List<LocationTrailPoint> points) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, points, points.size(), (ps, point) -> {
+            ps.setLong(1, scheduleId);
+            ps.setLong(2, point.getMemberId());
+            ps.setDouble(3, point.getLatitude());
+            ps.setDouble(4, point.getLongitude());
+            ps.setTimestamp(5, Timestamp.valueOf(point.getRecordedAt()));
+            ps.setString(6, point.getStreamId());
+        });
+    }
+}
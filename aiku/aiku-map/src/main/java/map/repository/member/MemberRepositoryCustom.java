@@ -9,6 +9,4 @@ public interface MemberRepositoryCustom {
     Optional<AlarmMemberInfo> findMemberInfo(Long memberId);
 
     boolean checkEnoughRacingPoint(Long memberId, Integer point);
-
-    Optional<AlarmMemberInfo> findMemberInfoByScheduleMemberId(Long scheduleMemberId);
 }
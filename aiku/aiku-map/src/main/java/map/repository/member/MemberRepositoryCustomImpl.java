@@ -8,7 +8,6 @@ import lombok.RequiredArgsConstructor;
 import java.util.Optional;
 
 import static common.domain.member.QMember.member;
-import static common.domain.schedule.QScheduleMember.scheduleMember;
 
 @RequiredArgsConstructor
 public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
@@ -38,19 +37,4 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
 
         return count != null && count > 0;
     }
-
-    @Override
-    public Optional<AlarmMemberInfo> findMemberInfoByScheduleMemberId(Long scheduleMemberId) {
-        AlarmMemberInfo alarmMemberInfo = query.select(Projections.constructor(AlarmMemberInfo.class,
-                        member.id,
-                        member.nickname,
-                        member.profile,
-                        member.firebaseToken))
-                .from(scheduleMember)
-                .leftJoin(scheduleMember.member, member)
-                .where(scheduleMember.id.eq(scheduleMemberId))
-                .fetchOne();
-
-        return Optional.ofNullable(alarmMemberInfo);
-    }
 }
@@ -1,12 +1,28 @@
 package map.repository.racing;
 
-import common.domain.ExecStatus;
-import common.domain.Status;
 import common.domain.racing.Racing;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface RacingRepository extends JpaRepository<Racing, Long>, RacingRepositoryCustom {
 
-    boolean existsByIdAndRaceStatusAndStatus(Long racingId, ExecStatus scheduleStatus, Status status);
+    // 두 레이서 쌍의 살아있는 레이싱 존재 여부, uk_racing_racer_pair 인덱스 조회
+    boolean existsByRacerPairKey(String racerPairKey);
 
+    // ddl update 로 racerPairKey 가 null 로 추가된 기존 ALIVE 레이싱에 키를 채움
+    // 이미 키가 있는 쌍은 건너뛰고, 같은 쌍이 여럿이면 가장 먼저 만든 레이싱에만 채워 유니크 인덱스 위반을 피함
+    @Modifying
+    @Query(value = """
+            UPDATE racing r
+            JOIN (SELECT MIN(racing_id) AS racing_id
+                  FROM racing
+                  WHERE status = 'ALIVE'
+                  GROUP BY LEAST(first_racer_schedule_member_id, second_racer_schedule_member_id),
+                           GREATEST(first_racer_schedule_member_id, second_racer_schedule_member_id)
+                  HAVING COUNT(racer_pair_key) = 0) pair ON r.racing_id = pair.racing_id
+            SET r.racer_pair_key = CONCAT(LEAST(r.first_racer_schedule_member_id, r.second_racer_schedule_member_id), ':',
+                                          GREATEST(r.first_racer_schedule_member_id, r.second_racer_schedule_member_id))
+            """, nativeQuery = true)
+    int backfillRacerPairKeys();
 }
@@ -1,33 +1,47 @@
 package map.repository.racing;
 
-import common.kafka_message.alarm.AlarmMemberInfo;
+import map.dto.RacingContext;
 import map.dto.RacingResDto;
-import map.dto.RunningRacingDto;
-import map.dto.TermRacingDto;
+import map.dto.WaitingRacingDto;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface RacingRepositoryCustom {
 
-    void setWinnerAndTermRacingByScheduleMemberId(Long scheduleMemberId);
+    // 스케줄 멤버가 참여 중인 진행 중 레이싱 id 를 행 락과 함께 조회, 동시에 정산하는 도착/스케줄 종료는 커밋까지 대기
+    List<Long> findRunningRacingIdsByScheduleMemberIdForUpdate(Long scheduleMemberId);
 
-    void terminateRunningRacing(Long scheduleId);
+    // 스케줄의 진행 중 레이싱 id 를 행 락과 함께 조회, 동시에 정산하는 도착은 커밋까지 대기
+    List<Long> findRunningRacingIdsInScheduleForUpdate(Long scheduleId);
 
-    void cancelRacing(Long racingId);
+    // 진행 중인 레이싱만 승자 지정 후 종료, 변경된 행 수 반환
+    long setWinnerAndTermRacings(List<Long> racingIds, Long winnerScheduleMemberId);
 
-    List<RacingResDto> getAllRunningRacingsInSchedule(Long scheduleId);
+    // 진행 중인 레이싱만 무승부 종료, 변경된 행 수 반환
+    long terminateRunningRacings(List<Long> racingIds);
+
+    // 무승부 환불 실패 시 해당 멤버가 참여한 스케줄의 무승부 레이싱 오류 처리
+    void specifyErrorInDrawRacings(Long scheduleId, Long memberId);
 
-    boolean checkBothMemberHaveEnoughRacingPoint(Long racingId);
+    // 대기 중인 레이싱만 상태 전이, 변경된 행 수로 성공 여부 판단 (0 이면 이미 수락/거절/삭제됨)
+    long startWaitingRacing(Long racingId);
 
-    List<AlarmMemberInfo> findMemberInfoByScheduleMemberId(Long racingId);
+    long cancelWaitingRacing(Long racingId);
 
-    boolean checkMemberIsSecondRacerInRacing(Long memberId, Long racingId);
+    long deleteWaitingRacing(Long racingId);
+
+    List<RacingResDto> getAllRunningRacingsInSchedule(Long scheduleId);
 
-    boolean existsByFirstMemberIdAndSecondMemberId(Long scheduleId, Long firstMemberId, Long secondMemberId);
+    // 주어진 레이싱 중 해당 스케줄 멤버가 승자로 종료된 레이싱을 두 레이서 정보와 함께 한 번에 조회, 상금 지급용
+    List<RacingContext> findWonRacingContexts(List<Long> racingIds, Long winnerScheduleMemberId);
 
-    List<RunningRacingDto> findRunningRacingsByScheduleMemberId(Long scheduleMemberId);
+    // 주어진 레이싱 중 무승부로 종료된 레이싱을 두 레이서 정보와 함께 한 번에 조회, 스케줄 종료 시 무승부 환불용
+    List<RacingContext> findDrawRacingContexts(List<Long> racingIds);
 
-    List<TermRacingDto> findTermRacingIdsWithNoWinnerInSchedule(Long scheduleId);
+    // 레이싱, 두 레이서 정보/포인트/FCM 토큰, 스케줄 이름을 한 번에 조회
+    Optional<RacingContext> findRacingContext(Long racingId);
 
-    List<String> findRacersFcmTokensInRacing(Long racingId);
+    // 수락 대기 중인 모든 레이싱, 재시작 시 타이머 복구용
+    List<WaitingRacingDto> findAllWaitingRacings();
 }
@@ -1,8 +1,8 @@
 package map.repository.racing;
 
-import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import common.domain.ExecStatus;
 import common.domain.Status;
@@ -10,15 +10,15 @@ import common.domain.member.QMember;
 import common.domain.schedule.QScheduleMember;
 import common.domain.value_reference.ScheduleMemberValue;
 import common.kafka_message.alarm.AlarmMemberInfo;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import map.dto.*;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
 
-import static common.domain.member.QMember.member;
 import static common.domain.racing.QRacing.racing;
+import static common.domain.schedule.QSchedule.schedule;
 import static common.domain.schedule.QScheduleMember.scheduleMember;
 
 @RequiredArgsConstructor
@@ -27,38 +27,105 @@ public class RacingRepositoryCustomImpl implements RacingRepositoryCustom {
     private final JPAQueryFactory query;
 
     @Override
-    public void setWinnerAndTermRacingByScheduleMemberId(Long scheduleMemberId) {
-        query.update(racing)
+    public List<Long> findRunningRacingIdsByScheduleMemberIdForUpdate(Long scheduleMemberId) {
+        return query.select(racing.id)
+                .from(racing)
+                .where(racing.firstRacer.id.eq(scheduleMemberId)
+                                .or(racing.secondRacer.id.eq(scheduleMemberId)),
+                        racing.raceStatus.eq(ExecStatus.RUN),
+                        racing.status.eq(Status.ALIVE))
+                .orderBy(racing.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findRunningRacingIdsInScheduleForUpdate(Long scheduleId) {
+        // 두 레이서는 같은 스케줄 소속이므로 첫 번째 레이서로 스케줄 한정, 서브쿼리의 스케줄 멤버 행은 잠그지 않음
+        return query.select(racing.id)
+                .from(racing)
+                .where(racing.firstRacer.id.in(
+                                JPAExpressions.select(scheduleMember.id)
+                                        .from(scheduleMember)
+                                        .where(scheduleMember.schedule.id.eq(scheduleId))),
+                        racing.raceStatus.eq(ExecStatus.RUN),
+                        racing.status.eq(Status.ALIVE))
+                .orderBy(racing.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public long setWinnerAndTermRacings(List<Long> racingIds, Long winnerScheduleMemberId) {
+        if (racingIds.isEmpty()) return 0;
+
+        return query.update(racing)
                 .set(racing.raceStatus, ExecStatus.TERM)
-                .set(racing.winner, new ScheduleMemberValue(scheduleMemberId))
-                .where(racing.raceStatus.eq(ExecStatus.RUN),
-                        racing.firstRacer.id.eq(scheduleMemberId)
-                                .or(racing.secondRacer.id.eq(scheduleMemberId))
-                )
+                .set(racing.winner, new ScheduleMemberValue(winnerScheduleMemberId))
+                .where(racing.id.in(racingIds),
+                        racing.raceStatus.eq(ExecStatus.RUN))
                 .execute();
     }
 
     @Override
-    public void terminateRunningRacing(Long scheduleId) {
-        query.update(racing)
+    public long terminateRunningRacings(List<Long> racingIds) {
+        if (racingIds.isEmpty()) return 0;
+
+        return query.update(racing)
                 .set(racing.raceStatus, ExecStatus.TERM)
-                .where(racing.firstRacer.id.in(
-                        JPAExpressions.select(scheduleMember.id)
-                                .from(scheduleMember)
-                                .where(scheduleMember.schedule.id.eq(scheduleId))
-                ).or(racing.secondRacer.id.in(
-                        JPAExpressions.select(scheduleMember.id)
-                                .from(scheduleMember)
-                                .where(scheduleMember.schedule.id.eq(scheduleId))
-                )))
+                .where(racing.id.in(racingIds),
+                        racing.raceStatus.eq(ExecStatus.RUN))
                 .execute();
     }
 
     @Override
-    public void cancelRacing(Long racingId) {
+    public void specifyErrorInDrawRacings(Long scheduleId, Long memberId) {
         query.update(racing)
+                .set(racing.status, Status.ERROR)
+                .setNull(racing.racerPairKey)
+                .where(racing.raceStatus.eq(ExecStatus.TERM),
+                        racing.winner.isNull(),
+                        racing.firstRacer.id.in(
+                                JPAExpressions.select(scheduleMember.id)
+                                        .from(scheduleMember)
+                                        .where(scheduleMember.schedule.id.eq(scheduleId),
+                                                scheduleMember.member.id.eq(memberId))
+                        ).or(racing.secondRacer.id.in(
+                                JPAExpressions.select(scheduleMember.id)
+                                        .from(scheduleMember)
+                                        .where(scheduleMember.schedule.id.eq(scheduleId),
+                                                scheduleMember.member.id.eq(memberId))
+                        )))
+                .execute();
+    }
+
+    @Override
+    public long startWaitingRacing(Long racingId) {
+        return query.update(racing)
+                .set(racing.raceStatus, ExecStatus.RUN)
+                .where(racing.id.eq(racingId),
+                        racing.raceStatus.eq(ExecStatus.WAIT),
+                        racing.status.eq(Status.ALIVE))
+                .execute();
+    }
+
+    @Override
+    public long cancelWaitingRacing(Long racingId) {
+        return query.update(racing)
                 .set(racing.status, Status.DELETE)
-                .where(racing.id.eq(racingId))
+                .setNull(racing.racerPairKey)
+                .where(racing.id.eq(racingId),
+                        racing.raceStatus.eq(ExecStatus.WAIT),
+                        racing.status.eq(Status.ALIVE))
+                .execute();
+    }
+
+    @Override
+    public long deleteWaitingRacing(Long racingId) {
+        return query.delete(racing)
+                .where(racing.id.eq(racingId),
+                        racing.raceStatus.eq(ExecStatus.WAIT),
+                        racing.status.eq(Status.ALIVE))
                 .execute();
     }
 
@@ -97,159 +164,92 @@ public class RacingRepositoryCustomImpl implements RacingRepositoryCustom {
                 .join(firstRacerMember.member, firstMember) // 첫 번째 레이서의 멤버와 조인 (첫 번째 별칭 사용)
                 .join(secondRacerMember).on(secondRacerMember.id.eq(racing.secondRacer.id)) // 두 번째 레이서와 조인
                 .join(secondRacerMember.member, secondMember) // 두 번째 레이서의 멤버와 조인 (두 번째 별칭 사용)
-                .where(firstRacerMember.schedule.id.eq(scheduleId)) // 스케줄 ID 조건
+                .where(firstRacerMember.schedule.id.eq(scheduleId), // 스케줄 ID 조건
+                        racing.raceStatus.eq(ExecStatus.RUN), // 진행 중인 레이싱만
+                        racing.status.eq(Status.ALIVE))
                 .fetch();
     }
 
-
     @Override
-    public boolean checkBothMemberHaveEnoughRacingPoint(Long racingId) {
-        QScheduleMember firstRacerMember = new QScheduleMember("firstRacerMember");  // 첫 번째 스케줄 멤버 별칭
-        QScheduleMember secondRacerMember = new QScheduleMember("secondRacerMember"); // 두 번째 스케줄 멤버 별칭
-
-        QMember firstMember = new QMember("firstMember"); // 첫 번째 멤버 별칭
-        QMember secondMember = new QMember("secondMember"); // 두 번째 멤버 별칭
-
-        Tuple tuple = query.select(firstMember.point.as("firstPoint"),
-                        secondMember.point.as("secondPoint"),
-                        racing.pointAmount.as("pointAmount"))
-                .from(racing)
-                .join(firstRacerMember).on(firstRacerMember.id.eq(racing.firstRacer.id)) // 첫 번째 레이서와 조인
-                .join(firstRacerMember.member, firstMember) // 첫 번째 레이서의 멤버와 조인 (첫 번째 별칭 사용)
-                .join(secondRacerMember).on(secondRacerMember.id.eq(racing.secondRacer.id)) // 두 번째 레이서와 조인
-                .join(secondRacerMember.member, secondMember) // 두 번째 레이서의 멤버와 조인 (두 번째 별칭 사용)
-                .where(racing.id.eq(racingId))
-                .fetchOne();
+    public List<RacingContext> findWonRacingContexts(List<Long> racingIds, Long winnerScheduleMemberId) {
+        if (racingIds.isEmpty()) return List.of();
 
-        Integer firstPoint = tuple.get(0, Integer.class);
-        Integer secondPoint = tuple.get(1, Integer.class);
-        Integer pointAmount = tuple.get(2, Integer.class);
-
-        return firstPoint >= pointAmount && secondPoint >= pointAmount;
+        return selectRacingContext()
+                .where(racing.id.in(racingIds),
+                        racing.raceStatus.eq(ExecStatus.TERM),
+                        racing.winner.id.eq(winnerScheduleMemberId)
+                )
+                .fetch();
     }
 
     @Override
-    public List<AlarmMemberInfo> findMemberInfoByScheduleMemberId(Long racingId) {
-        QScheduleMember firstRacerMember = new QScheduleMember("firstRacerMember");  // 첫 번째 스케줄 멤버 별칭
-        QScheduleMember secondRacerMember = new QScheduleMember("secondRacerMember"); // 두 번째 스케줄 멤버 별칭
-
-        QMember firstMember = new QMember("firstMember"); // 첫 번째 멤버 별칭
-        QMember secondMember = new QMember("secondMember"); // 두 번째 멤버 별칭
+    public List<RacingContext> findDrawRacingContexts(List<Long> racingIds) {
+        if (racingIds.isEmpty()) return List.of();
 
-        AlarmMemberInfo firstAlarmMemberInfo = query.select(Projections.constructor(AlarmMemberInfo.class,
-                        firstMember.id,            // 첫 번째 레이서 멤버 ID
-                        firstMember.nickname,      // 첫 번째 레이서 멤버 닉네임
-                        firstMember.profile,       // 첫 번째 레이서 멤버 프로필
-                        firstMember.firebaseToken  // 첫 번째 레이서 멤버 Firebase 토큰
-                ))
-                .from(racing)
-                .join(firstRacerMember).on(firstRacerMember.id.eq(racing.firstRacer.id))  // 첫 번째 레이서와 조인
-                .join(firstRacerMember.member, firstMember) // 첫 번째 레이서의 멤버와 조인
-                .where(racing.id.eq(racingId))
-                .fetchOne();
-
-        AlarmMemberInfo secondAlarmMemberInfo = query.select(Projections.constructor(AlarmMemberInfo.class,
-                        secondMember.id,           // 두 번째 레이서 멤버 ID
-                        secondMember.nickname,     // 두 번째 레이서 멤버 닉네임
-                        secondMember.profile,      // 두 번째 레이서 멤버 프로필
-                        secondMember.firebaseToken // 두 번째 레이서 멤버 Firebase 토큰
-                ))
-                .from(racing)
-                .join(secondRacerMember).on(secondRacerMember.id.eq(racing.secondRacer.id)) // 두 번째 레이서와 조인
-                .join(secondRacerMember.member, secondMember) // 두 번째 레이서의 멤버와 조인
-                .where(racing.id.eq(racingId))
-                .fetchOne();
-
-        if (Objects.isNull(firstAlarmMemberInfo) || Objects.isNull(secondAlarmMemberInfo)) {
-            return Collections.emptyList();
-        } else {
-            return List.of(firstAlarmMemberInfo, secondAlarmMemberInfo);
-        }
+        return selectRacingContext()
+                .where(racing.id.in(racingIds),
+                        racing.raceStatus.eq(ExecStatus.TERM),
+                        racing.winner.id.isNull()
+                )
+                .fetch();
     }
 
     @Override
-    public boolean checkMemberIsSecondRacerInRacing(Long memberId, Long racingId) {
-        Long count = query.select(member.count())
-                .from(racing)
-                .join(scheduleMember).on(scheduleMember.id.eq(racing.secondRacer.id))
-                .join(scheduleMember.member, member)
-                .where(member.id.eq(memberId), racing.id.eq(racingId))
-                .fetchOne();
-
-        return count != null && count > 0;
+    public Optional<RacingContext> findRacingContext(Long racingId) {
+        return Optional.ofNullable(selectRacingContext()
+                .where(racing.id.eq(racingId))
+                .fetchOne());
     }
 
-    @Override
-    public boolean existsByFirstMemberIdAndSecondMemberId(Long scheduleId, Long firstMemberId, Long secondMemberId) {
+    private JPAQuery<RacingContext> selectRacingContext() {
         QScheduleMember firstRacerMember = new QScheduleMember("firstRacerMember");  // 첫 번째 스케줄 멤버 별칭
         QScheduleMember secondRacerMember = new QScheduleMember("secondRacerMember"); // 두 번째 스케줄 멤버 별칭
 
         QMember firstMember = new QMember("firstMember"); // 첫 번째 멤버 별칭
         QMember secondMember = new QMember("secondMember"); // 두 번째 멤버 별칭
 
-        Long count = query.select(racing.count())
+        return query.select(Projections.constructor(RacingContext.class,
+                        racing.id,
+                        schedule.id,
+                        schedule.scheduleName,
+                        racing.pointAmount,
+                        racing.raceStatus,
+                        racing.status,
+                        firstRacerMember.id,
+                        secondRacerMember.id,
+                        Projections.constructor(AlarmMemberInfo.class,
+                                firstMember.id, firstMember.nickname, firstMember.profile, firstMember.firebaseToken),
+                        Projections.constructor(AlarmMemberInfo.class,
+                                secondMember.id, secondMember.nickname, secondMember.profile, secondMember.firebaseToken),
+                        firstMember.point,
+                        secondMember.point))
                 .from(racing)
                 .join(firstRacerMember).on(firstRacerMember.id.eq(racing.firstRacer.id)) // 첫 번째 레이서와 조인
                 .join(firstRacerMember.member, firstMember) // 첫 번째 레이서의 멤버와 조인 (첫 번째 별칭 사용)
                 .join(secondRacerMember).on(secondRacerMember.id.eq(racing.secondRacer.id)) // 두 번째 레이서와 조인
                 .join(secondRacerMember.member, secondMember) // 두 번째 레이서의 멤버와 조인 (두 번째 별칭 사용)
-                .where(
-                        firstRacerMember.schedule.id.eq(scheduleId),
-                        secondRacerMember.schedule.id.eq(scheduleId),
-                        (firstMember.id.eq(firstMemberId).and(secondMember.id.eq(secondMemberId)))
-                                .or(secondMember.id.eq(firstMemberId).and(firstMember.id.eq(secondMemberId)))
-                )
-                .fetchOne();
-
-        return count != null && count > 0;
+                .join(firstRacerMember.schedule, schedule); // 레이싱이 속한 스케줄과 조인
     }
 
-
     @Override
-    public List<RunningRacingDto> findRunningRacingsByScheduleMemberId(Long scheduleMemberId) {
-        return query.select(Projections.constructor(RunningRacingDto.class,
-                        racing.id, racing.firstRacer.id, racing.secondRacer.id, racing.pointAmount)
-                )
-                .from(racing)
-                .where(racing.firstRacer.id.eq(scheduleMemberId)
-                                .or(racing.secondRacer.id.eq(scheduleMemberId)),
-                        racing.raceStatus.eq(ExecStatus.RUN)
-                )
-                .fetch();
-    }
-
-    @Override
-    public List<TermRacingDto> findTermRacingIdsWithNoWinnerInSchedule(Long scheduleId) {
-        return query.select(Projections.constructor(TermRacingDto.class,
-                        racing.id, racing.firstRacer.id, racing.secondRacer.id, racing.pointAmount)
-                )
-                .from(racing)
-                .join(scheduleMember).on(scheduleMember.id.eq(racing.firstRacer.id))
-                .where(scheduleMember.schedule.id.eq(scheduleId),
-                        racing.winner.isNull(),
-                        racing.raceStatus.eq(ExecStatus.TERM)
-                )
-                .fetch();
-    }
-
-    @Override
-    public List<String> findRacersFcmTokensInRacing(Long racingId) {
+    public List<WaitingRacingDto> findAllWaitingRacings() {
         QScheduleMember firstRacerMember = new QScheduleMember("firstRacerMember");
         QScheduleMember secondRacerMember = new QScheduleMember("secondRacerMember");
 
-        QMember firstMember = new QMember("firstMember");
-        QMember secondMember = new QMember("secondMember");
-
-        Tuple tuple = query.select(firstMember.firebaseToken,
-                        secondMember.firebaseToken)
+        return query.select(Projections.constructor(WaitingRacingDto.class,
+                        racing.id,
+                        schedule.id,
+                        schedule.scheduleName,
+                        firstRacerMember.member.id,
+                        secondRacerMember.member.id,
+                        racing.pointAmount,
+                        racing.createdAt))
                 .from(racing)
                 .join(firstRacerMember).on(firstRacerMember.id.eq(racing.firstRacer.id))
-                .join(firstRacerMember.member, firstMember)
                 .join(secondRacerMember).on(secondRacerMember.id.eq(racing.secondRacer.id))
-                .join(secondRacerMember.member, secondMember)
-                .where(racing.id.eq(racingId))
-                .fetchOne();
-
-        return List.of(tuple.get(0, String.class), tuple.get(1, String.class));
+                .join(firstRacerMember.schedule, schedule)
+                .where(racing.raceStatus.eq(ExecStatus.WAIT),
+                        racing.status.eq(Status.ALIVE))
+                .fetch();
     }
 }
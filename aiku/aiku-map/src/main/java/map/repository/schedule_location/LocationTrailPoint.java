@@ -0,0 +1,18 @@
+package map.repository.schedule_location;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 스케줄 이동 경로 스트림의 한 지점, streamId 는 다음 구간 조회 기준
+@Getter
+@AllArgsConstructor
+public class LocationTrailPoint {
+
+    private String streamId;
+    private Long memberId;
+    private double latitude;
+    private double longitude;
+    private LocalDateTime recordedAt;
+}
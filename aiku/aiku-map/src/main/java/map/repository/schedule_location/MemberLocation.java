@@ -0,0 +1,19 @@
+package map.repository.schedule_location;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 스케줄 위치 해시에 멤버 단위로 저장되는 위치 레코드, 직렬화는 MemberLocationRedisSerializer
+@Getter
+@AllArgsConstructor
+public class MemberLocation {
+
+    private double latitude;
+    private double longitude;
+    private boolean arrived;
+    private long savedAt; // epoch millis
+
+    public boolean isExpired(long now, long ttlMillis) {
+        return !arrived && now - savedAt > ttlMillis;
+    }
+}
@@ -1,21 +1,32 @@
 package map.repository.schedule_location;
 
-import map.dto.RealTimeLocationResDto;
+import common.domain.Location;
 
 import java.util.List;
 
 public interface ScheduleLocationRepository {
 
-    // 멤버 위치, 도착여부 저장
-    void saveLocation(Long scheduleId, Long memberId, double latitude, double longitude);
+    // 멤버 위치 저장 후 해당 스케줄의 멤버 위치 조회 (단일 왕복), sinceVersion 이 null 이면 전체 조회
+    // destination 이 있으면 저장한 위치가 도착 반경 안인지 함께 확인
+    ScheduleLocationSnapshot saveLocationAndGetScheduleLocations(Long scheduleId, Long memberId, double latitude, double longitude,
+                                                                 Location destination, Long sinceVersion);
 
-    // 해당 스케줄에 해당하는 모든 멤버 위치 조회
-    List<RealTimeLocationResDto> getScheduleLocations(Long scheduleId);
+    // 해당 스케줄에 해당하는 멤버 위치 조회, sinceVersion 이 null 이면 전체 조회
+    ScheduleLocationSnapshot getScheduleLocations(Long scheduleId, Long sinceVersion);
 
-    // 멤버 도착 여부 업데이트
-    void updateArrivalStatus(Long scheduleId, Long memberId, boolean arrived);
+    // 멤버 도착 위치 저장, 이미 도착 처리된 멤버면 arrivalDetected 가 false, 위치는 조회하지 않음
+    ScheduleLocationSnapshot saveArrivedLocation(Long scheduleId, Long memberId, double latitude, double longitude);
+
+    // 멤버 도착 처리 취소, 도착 위치도 함께 제거
+    void cancelArrivedLocation(Long scheduleId, Long memberId);
 
     // 특정 scheduleId에 해당하는 모든 위치 정보 삭제
     void deleteScheduleLocations(Long scheduleId);
 
+    // afterStreamId 이후 이동 경로를 count 개까지 조회, afterStreamId 가 null 이면 처음부터
+    List<LocationTrailPoint> getTrail(Long scheduleId, String afterStreamId, int count);
+
+    // lastStreamId 까지의 이동 경로 삭제, 이후 추가된 지점은 남김
+    void trimTrail(Long scheduleId, String lastStreamId);
+
 }
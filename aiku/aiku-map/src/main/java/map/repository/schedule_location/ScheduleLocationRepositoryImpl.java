@@ -1,68 +1,229 @@
 package map.repository.schedule_location;
 
+import common.domain.Location;
 import lombok.RequiredArgsConstructor;
 import map.dto.RealTimeLocationResDto;
+import map.redis.MemberLocationRedisSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
+/*
+스케줄마다 하나의 해시(schedule:{scheduleId}:locations)에 멤버 위치를 저장
+field : memberId, value : MemberLocation (MemberLocationRedisSerializer)
+KEYS 패턴 스캔 없이 스케줄 크기에 비례한 비용으로 조회/삭제
+
+버전 해시(schedule:{scheduleId}:versions)에는 스케줄 버전(current), 버전 시작값(epoch), 멤버별 마지막 변경 버전을 저장
+만료된 멤버도 버전은 남겨 변경분 조회 시 제거된 멤버로 전달
+GEO 셋(schedule:{scheduleId}:geo)에는 멤버와 도착지(destination) 좌표를 저장해 도착 반경 확인, 반경 조회에 사용
+도착 셋(schedule:{scheduleId}:arrived)에는 도착 처리된 memberId 를 저장
+저장 시각 ZSET(schedule:{scheduleId}:seen)에는 도착 전 멤버의 마지막 저장 시각을 저장해, 조회 시 스크립트 안에서 오래된 멤버를 제거
+이동 경로 스트림(schedule:{scheduleId}:trail)에는 저장된 위치를 순서대로 추가, 스케줄 종료 시 MySQL 로 옮긴 뒤 삭제
+위치 변경은 모두 schedule_locations.lua 로 처리해 버전 증가와 저장이 원자적으로 이루어짐
+ */
 @Repository
 @RequiredArgsConstructor
 public class ScheduleLocationRepositoryImpl implements ScheduleLocationRepository {
 
+    private final RedisTemplate<String, MemberLocation> locationRedisTemplate;
     private final RedisTemplate<String, String> redisTemplate;
-    private static final int TTL_SECONDS = 60 * 5; // 5분
+    private final MemberLocationRedisSerializer memberLocationRedisSerializer;
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(5); // 5분, 도착 전 멤버 위치 유효 시간
+    private static final int SCHEDULE_TTL_SECONDS = 60 * 60 * 3; // 3시간, 종료 이벤트 유실 시 정리용
+    private static final long FULL_SNAPSHOT = -1L;
+    private static final String NONE = "";
+    private static final String ARRIVAL_WRITE = "1";
+    private static final String ARRIVAL_CANCEL = "2";
+    private static final int HEADER_SIZE = 4; // 스크립트 결과 앞부분 {버전, 변경분 여부, 도착 여부, 저장 여부}
+
+    private static final RedisScript<List> LOCATIONS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/schedule_locations.lua"), List.class);
+
+    // 도착지 Location 에는 반경 정보가 없어 설정값 사용
+    @Value("${map.arrival.radius-meters:50}")
+    private double arrivalRadiusMeters;
+
+    // 스케줄당 이동 경로 최대 길이, 초과하면 오래된 지점부터 제거
+    @Value("${map.location.trail.max-length:50000}")
+    private long trailMaxLength;
+
+    // 멤버 위치 저장 후 해당 스케줄의 멤버 위치 조회
+    // 저장, 버전 증가, GEO 저장, 도착 반경 확인, TTL 갱신, 조회를 Lua 스크립트로 묶어 한 번의 왕복으로 처리
+    public ScheduleLocationSnapshot saveLocationAndGetScheduleLocations(Long scheduleId, Long memberId, double latitude, double longitude,
+                                                                        Location destination, Long sinceVersion) {
+        MemberLocation location = new MemberLocation(latitude, longitude, false, System.currentTimeMillis());
+        List<String> destinationArgs = destination == null
+                ? List.of(NONE, NONE, NONE)
+                : List.of(String.valueOf(destination.getLongitude()), String.valueOf(destination.getLatitude()), String.valueOf(arrivalRadiusMeters));
+
+        List<Object> result = executeLocationsScript(scheduleId, String.valueOf(memberId), location, toSinceArg(sinceVersion), destinationArgs, NONE);
+
+        return toSnapshot(scheduleId, result);
+    }
+
+    // 해당 스케줄에 해당하는 멤버 위치 조회
+    public ScheduleLocationSnapshot getScheduleLocations(Long scheduleId, Long sinceVersion) {
+        List<Object> result = executeLocationsScript(scheduleId, NONE, null, toSinceArg(sinceVersion), List.of(NONE, NONE, NONE), NONE);
+
+        return toSnapshot(scheduleId, result);
+    }
+
+    // 멤버 도착 위치 저장, 도착한 멤버는 만료 대상에서 제외되고 이후 위치 전송으로 덮어쓰지 않음
+    public ScheduleLocationSnapshot saveArrivedLocation(Long scheduleId, Long memberId, double latitude, double longitude) {
+        MemberLocation location = new MemberLocation(latitude, longitude, true, System.currentTimeMillis());
+        List<Object> result = executeLocationsScript(scheduleId, String.valueOf(memberId), location, NONE, List.of(NONE, NONE, NONE), ARRIVAL_WRITE);
+        if (result.size() < HEADER_SIZE) return emptySnapshot();
 
-    // 멤버 위치, 도착여부 저장
-    public void saveLocation(Long scheduleId, Long memberId, double latitude, double longitude) {
-        String key = "schedule:" + scheduleId + ":" + memberId;
+        return new ScheduleLocationSnapshot((Long) result.get(0), false, isArrival(result), isWritten(result),
+                Collections.emptyList(), Collections.emptyList());
+    }
+
+    // Arrival 저장이 롤백된 경우 도착 처리 취소, 다음 위치 전송부터 다시 저장됨
+    public void cancelArrivedLocation(Long scheduleId, Long memberId) {
+        executeLocationsScript(scheduleId, String.valueOf(memberId), null, NONE, List.of(NONE, NONE, NONE), ARRIVAL_CANCEL);
+    }
+
+    // 특정 scheduleId에 해당하는 모든 위치 정보 삭제, 이동 경로는 옮긴 뒤 trimTrail 로 삭제
+    public void deleteScheduleLocations(Long scheduleId) {
+        locationRedisTemplate.delete(List.of(getLocationsKey(scheduleId), getVersionsKey(scheduleId),
+                getGeoKey(scheduleId), getArrivedKey(scheduleId), getSeenKey(scheduleId)));
+    }
+
+    // afterStreamId 이후 이동 경로를 count 개까지 조회, afterStreamId 가 null 이면 처음부터
+    public List<LocationTrailPoint> getTrail(Long scheduleId, String afterStreamId, int count) {
+        Range.Bound<String> from = afterStreamId == null ? Range.Bound.unbounded() : Range.Bound.exclusive(afterStreamId);
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(getTrailKey(scheduleId), Range.rightUnbounded(from), Limit.limit().count(count));
+        if (records == null) return Collections.emptyList();
+
+        return records.stream()
+                .map(record -> new LocationTrailPoint(
+                        record.getId().getValue(),
+                        Long.parseLong((String) record.getValue().get("memberId")),
+                        Double.parseDouble((String) record.getValue().get("lat")),
+                        Double.parseDouble((String) record.getValue().get("lon")),
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(record.getId().getTimestamp()), ZoneId.systemDefault())))
+                .toList();
+    }
+
+    // XTRIM MINID 는 주어진 id 미만을 삭제하므로 lastStreamId 다음 id 를 기준으로 삭제
+    public void trimTrail(Long scheduleId, String lastStreamId) {
+        RecordId last = RecordId.of(lastStreamId);
+        String minId = last.getTimestamp() + "-" + (last.getSequence() + 1);
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("XTRIM",
+                toBytes(getTrailKey(scheduleId)), toBytes("MINID"), toBytes(minId)));
+    }
 
-        // 위치 정보 및 도착 여부 저장
-        redisTemplate.opsForHash().put(key, "latitude", String.valueOf(latitude));
-        redisTemplate.opsForHash().put(key, "longitude", String.valueOf(longitude));
-        redisTemplate.opsForHash().put(key, "arrived", String.valueOf(false));
+    @SuppressWarnings("unchecked")
+    private List<Object> executeLocationsScript(Long scheduleId, String memberId, MemberLocation location, String since,
+                                                List<String> destinationArgs, String arrivalWrite) {
+        // 인자와 결과 모두 byte[] 그대로 주고받고, 위치 레코드만 직접 직렬화
+        byte[] record = location == null ? new byte[0] : memberLocationRedisSerializer.serialize(location);
 
-        // 5분 TTL 적용
-        redisTemplate.expire(key, TTL_SECONDS, TimeUnit.SECONDS);
+        List<Object> result = locationRedisTemplate.execute(LOCATIONS_SCRIPT,
+                RedisSerializer.byteArray(),
+                (RedisSerializer) RedisSerializer.byteArray(),
+                List.of(getLocationsKey(scheduleId), getVersionsKey(scheduleId), getGeoKey(scheduleId), getArrivedKey(scheduleId),
+                        getTrailKey(scheduleId), getSeenKey(scheduleId)),
+                toBytes(memberId),
+                record,
+                toBytes(String.valueOf(SCHEDULE_TTL_SECONDS)),
+                toBytes(since),
+                toBytes(location == null ? NONE : String.valueOf(location.getLongitude())),
+                toBytes(location == null ? NONE : String.valueOf(location.getLatitude())),
+                toBytes(destinationArgs.get(0)),
+                toBytes(destinationArgs.get(1)),
+                toBytes(destinationArgs.get(2)),
+                toBytes(arrivalWrite),
+                toBytes(String.valueOf(trailMaxLength)),
+                toBytes(String.valueOf(location == null ? System.currentTimeMillis() : location.getSavedAt())),
+                toBytes(String.valueOf(TTL_MILLIS)));
+        return result == null ? Collections.emptyList() : result;
     }
 
-    // 해당 스케줄에 해당하는 모든 멤버 위치 조회
-    public List<RealTimeLocationResDto> getScheduleLocations(Long scheduleId) {
-        Set<String> keys = redisTemplate.keys("schedule:" + scheduleId + ":*");
-        if (keys == null || keys.isEmpty()) return Collections.EMPTY_LIST;
+    // 결과 : {스케줄 버전, 변경분 여부(1/0), 도착 여부(1/0), 저장 여부(1/0), memberId, 위치 레코드, ...}, 제거된 멤버는 빈 위치 레코드
+    private ScheduleLocationSnapshot toSnapshot(Long scheduleId, List<Object> result) {
+        if (result.size() < HEADER_SIZE) return emptySnapshot();
 
+        long version = (Long) result.get(0);
+        boolean delta = (Long) result.get(1) == 1L;
+        boolean arrivalDetected = isArrival(result);
+
+        // 오래된 멤버는 스크립트에서 저장 시각을 비교해 제거하므로 여기서는 삭제하지 않음
+        // 저장 시각 ZSET 이 생기기 전에 저장된 멤버만 조회 결과에서 제외
+        long now = System.currentTimeMillis();
         List<RealTimeLocationResDto> locations = new ArrayList<>();
-        for (String key : keys) {
-            Long userId = Long.parseLong(key.split(":")[2]);
-            String latitude = (String) redisTemplate.opsForHash().get(key, "latitude");
-            String longitude = (String) redisTemplate.opsForHash().get(key, "longitude");
-            String arrivedStr = (String) redisTemplate.opsForHash().get(key, "arrived");
-
-            if (latitude != null && longitude != null) {
-                boolean arrived = Boolean.parseBoolean(arrivedStr);
-                locations.add(new RealTimeLocationResDto(userId, Double.parseDouble(latitude), Double.parseDouble(longitude), arrived));
+        List<Long> removedMemberIds = new ArrayList<>();
+        for (int i = HEADER_SIZE; i + 1 < result.size(); i += 2) {
+            String memberId = RedisSerializer.string().deserialize((byte[]) result.get(i));
+            MemberLocation location = memberLocationRedisSerializer.deserialize((byte[]) result.get(i + 1));
+            if (location == null) {
+                removedMemberIds.add(Long.parseLong(memberId));
+                continue;
             }
+            if (location.isExpired(now, TTL_MILLIS)) continue;
+
+            locations.add(new RealTimeLocationResDto(Long.parseLong(memberId), location.getLatitude(), location.getLongitude(), location.isArrived()));
         }
-        return locations;
+
+        return new ScheduleLocationSnapshot(version, delta, arrivalDetected, isWritten(result), locations, removedMemberIds);
     }
 
-    // 멤버 도착 여부 업데이트
-    public void updateArrivalStatus(Long scheduleId, Long memberId, boolean arrived) {
-        String key = "schedule:" + scheduleId + ":" + memberId;
-        redisTemplate.opsForHash().put(key, "arrived", String.valueOf(arrived));
+    private ScheduleLocationSnapshot emptySnapshot() {
+        return new ScheduleLocationSnapshot(0L, false, false, false, Collections.emptyList(), Collections.emptyList());
+    }
 
-        // TTL 제거, 위치 정보 고정
-        redisTemplate.persist(key);
+    private boolean isArrival(List<Object> result) {
+        return result.size() >= HEADER_SIZE && (Long) result.get(2) == 1L;
     }
 
-    // 특정 scheduleId에 해당하는 모든 위치 정보 삭제
-    public void deleteScheduleLocations(Long scheduleId) {
-        Set<String> keys = redisTemplate.keys("schedule:" + scheduleId + ":*");
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-        }
+    private boolean isWritten(List<Object> result) {
+        return result.size() >= HEADER_SIZE && (Long) result.get(3) == 1L;
+    }
+
+    private String toSinceArg(Long sinceVersion) {
+        return String.valueOf(sinceVersion == null ? FULL_SNAPSHOT : sinceVersion);
     }
-}
 
+    private byte[] toBytes(String value) {
+        return RedisSerializer.string().serialize(value);
+    }
+
+    private String getLocationsKey(Long scheduleId) {
+        return "schedule:" + scheduleId + ":locations";
+    }
+
+    private String getVersionsKey(Long scheduleId) {
+        return "schedule:" + scheduleId + ":versions";
+    }
+
+    private String getGeoKey(Long scheduleId) {
+        return "schedule:" + scheduleId + ":geo";
+    }
+
+    private String getArrivedKey(Long scheduleId) {
+        return "schedule:" + scheduleId + ":arrived";
+    }
+
+    private String getTrailKey(Long scheduleId) {
+        return "schedule:" + scheduleId + ":trail";
+    }
+
+    private String getSeenKey(Long scheduleId) {
+        return "schedule:" + scheduleId + ":seen";
+    }
+}
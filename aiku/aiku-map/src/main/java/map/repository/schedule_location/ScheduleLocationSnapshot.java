@@ -0,0 +1,23 @@
+package map.repository.schedule_location;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import map.dto.RealTimeLocationResDto;
+
+import java.util.List;
+
+// 스케줄 버전 기준으로 조회한 멤버 위치, delta 이면 sinceVersion 이후 변경된 멤버만 포함
+// arrivalDetected : 저장한 위치가 도착 반경 안인지 (저장과 함께 조회한 경우)
+// written : 요청한 위치를 실제로 저장했는지 (이미 도착한 멤버의 위치 전송은 저장하지 않음)
+// removedMemberIds : delta 에서 sinceVersion 이후 만료되어 제거된 멤버
+@Getter
+@AllArgsConstructor
+public class ScheduleLocationSnapshot {
+
+    private long version;
+    private boolean delta;
+    private boolean arrivalDetected;
+    private boolean written;
+    private List<RealTimeLocationResDto> locations;
+    private List<Long> removedMemberIds;
+}
@@ -0,0 +1,122 @@
+package map.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/*
+타임아웃 전용 해시 타이밍 휠
+tickMillis 간격의 버킷(wheelSize 개)에 타임아웃을 나눠 담고, 한 스레드가 틱마다 현재 버킷만 확인
+등록/취소는 key 기준 O(1), 만료되거나 취소된 타임아웃은 즉시 제거되어 남지 않음
+만료된 작업은 틱 스레드를 막지 않도록 taskExecutor 에서 실행
+등록 시 버킷 계산과 추가는 틱 처리와 같은 tickLock 안에서 수행해, 틱이 대상 버킷을 지나간 뒤에 추가되어 한 바퀴 늦게 만료되는 일이 없도록 함
+ */
+@Slf4j
+public class HashedTimingWheel {
+
+    private final long tickMillis;
+    private final List<Set<Timeout>> wheel;
+    private final ConcurrentHashMap<Long, Timeout> timeouts = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService tickExecutor;
+    private final ExecutorService taskExecutor;
+    private final Object tickLock = new Object();
+
+    private long startMillis;
+    private long nextTick; // 다음에 처리할 틱, tickLock 안에서만 읽고 씀
+
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize, int taskThreads) {
+        this.tickMillis = tickMillis;
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+        this.tickExecutor = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, name + "-tick"));
+        this.taskExecutor = Executors.newFixedThreadPool(taskThreads, r -> daemon(r, name + "-task"));
+    }
+
+    public void start() {
+        startMillis = System.currentTimeMillis();
+        tickExecutor.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        tickExecutor.shutdownNow();
+        taskExecutor.shutdown();
+    }
+
+    // 같은 key 로 다시 등록하면 이전 타임아웃은 취소
+    public void schedule(Long key, long delayMillis, Runnable task) {
+        long deadlineTick = (System.currentTimeMillis() + Math.max(delayMillis, 0) - startMillis + tickMillis - 1) / tickMillis;
+
+        synchronized (tickLock) {
+            // 이미 처리한 틱의 버킷에 들어가 한 바퀴 밀리지 않도록 아직 처리하지 않은 틱 이후로 등록
+            Timeout timeout = new Timeout(key, Math.max(deadlineTick, nextTick), task);
+
+            Timeout previous = timeouts.put(key, timeout);
+            if (previous != null) {
+                bucket(previous.deadlineTick).remove(previous);
+            }
+            bucket(timeout.deadlineTick).add(timeout);
+        }
+    }
+
+    public void cancel(Long key) {
+        Timeout timeout = timeouts.remove(key);
+        if (timeout != null) {
+            bucket(timeout.deadlineTick).remove(timeout);
+        }
+    }
+
+    public int size() {
+        return timeouts.size();
+    }
+
+    // 틱 스레드가 밀린 경우 지난 틱까지 모두 처리
+    private void advance() {
+        long currentTick = (System.currentTimeMillis() - startMillis) / tickMillis;
+        while (true) {
+            synchronized (tickLock) {
+                if (nextTick > currentTick) return;
+
+                expire(nextTick);
+                nextTick++;
+            }
+        }
+    }
+
+    private void expire(long tick) {
+        Set<Timeout> bucket = bucket(tick);
+        for (Timeout timeout : bucket) {
+            if (timeout.deadlineTick > tick) continue; // 다음 바퀴에 만료
+
+            bucket.remove(timeout);
+            if (timeouts.remove(timeout.key, timeout)) {
+                taskExecutor.execute(() -> run(timeout));
+            }
+        }
+    }
+
+    private void run(Timeout timeout) {
+        try {
+            timeout.task.run();
+        } catch (Exception e) {
+            log.error("HashedTimingWheel task failed, key = {}", timeout.key, e);
+        }
+    }
+
+    private Set<Timeout> bucket(long tick) {
+        return wheel.get((int) (tick % wheel.size()));
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record Timeout(Long key, long deadlineTick, Runnable task) {
+    }
+}
@@ -1,53 +1,74 @@
 package map.scheduler;
 
-import common.domain.ExecStatus;
-import common.domain.racing.Racing;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import map.application_event.domain.RacingInfo;
 import map.application_event.event.RacingStatusNotChangedEvent;
-import map.exception.RacingException;
+import map.dto.WaitingRacingDto;
 import map.repository.racing.RacingRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.TaskScheduler;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
-import static common.response.status.BaseErrorCode.NO_SUCH_RACING;
-
-
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class RacingScheduler {
 
-    private final TaskScheduler taskScheduler;
+    private static final long RACING_ACCEPT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final long TICK_MILLIS = 500;
+    private static final int WHEEL_SIZE = 128; // 64초, 대기 시간 30초보다 길게 잡아 한 바퀴 안에 만료
+
     private final ApplicationEventPublisher publisher;
     private final RacingRepository racingRepository;
 
-    private final ConcurrentHashMap<Long, ScheduledFuture<?>> racingTaskMap = new ConcurrentHashMap<>();
+    // 공용 TaskScheduler 대신 레이싱 수락 대기 전용 타이밍 휠 사용
+    private final HashedTimingWheel timingWheel = new HashedTimingWheel("racing-timeout", TICK_MILLIS, WHEEL_SIZE, 2);
+
+    @PostConstruct
+    public void start() {
+        timingWheel.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        timingWheel.stop();
+    }
 
     // Racing 생성 후 30초 타이머 설정
     public void checkRacingStatus30secsLater(RacingInfo racingInfo) {
-        // 30초 후 작업 예약
-        ScheduledFuture<?> future = taskScheduler.schedule(
-                () -> checkRacingStatus(racingInfo),
-                new java.util.Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30))
-        );
-
-        // ConcurrentHashMap에 저장
-        racingTaskMap.put(racingInfo.getRacingId(), future);
+        timingWheel.schedule(racingInfo.getRacingId(), RACING_ACCEPT_TIMEOUT_MILLIS, () -> checkRacingStatus(racingInfo));
     }
 
-    // 30초 후 Racing의 상태를 확인하고 WAIT이면 삭제
-    private void checkRacingStatus(RacingInfo racingInfo) {
-        Racing racing = racingRepository.findById(racingInfo.getRacingId())
-                .orElseThrow(() -> new RacingException(NO_SUCH_RACING));
+    // 수락/거절된 레이싱의 타이머 제거
+    public void cancel(Long racingId) {
+        timingWheel.cancel(racingId);
+    }
+
+    // 재시작 시 유실된 타이머 복구, 대기 중인 레이싱을 생성 시각 기준으로 다시 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverWaitingRacings() {
+        List<WaitingRacingDto> waitingRacings = racingRepository.findAllWaitingRacings();
+        LocalDateTime now = LocalDateTime.now();
+
+        waitingRacings.forEach(r -> {
+            long elapsedMillis = Duration.between(r.getCreatedAt(), now).toMillis();
+            timingWheel.schedule(r.getRacingId(), RACING_ACCEPT_TIMEOUT_MILLIS - elapsedMillis, () -> checkRacingStatus(r.toRacingInfo()));
+        });
 
-        if (racing.getRaceStatus().equals(ExecStatus.WAIT)) {
-            RacingStatusNotChangedEvent event = new RacingStatusNotChangedEvent(racingInfo);
-            publisher.publishEvent(event);
-        }
+        log.info("RacingScheduler recovered {} waiting racings", waitingRacings.size());
+    }
+
+    // 30초 후 삭제 요청, 여전히 WAIT 인지는 삭제 쿼리 조건으로 판단
+    private void checkRacingStatus(RacingInfo racingInfo) {
+        publisher.publishEvent(new RacingStatusNotChangedEvent(racingInfo));
     }
 }
@@ -0,0 +1,94 @@
+package map.service;
+
+import common.util.ObjectMapperUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import map.dto.LocationStreamMessage;
+import map.dto.LocationsResponseDto;
+import map.dto.RealTimeLocationResDto;
+import map.repository.emitter.EmitterRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static map.dto.LocationStreamMessageType.CLOSE;
+import static map.dto.LocationStreamMessageType.LOCATION;
+
+/*
+실시간 위치 SSE 스트림
+위치 변경은 Redis 채널(schedule-location:{scheduleId})로 발행되고,
+각 맵 인스턴스는 채널을 구독해 자신에게 연결된 구독자에게만 변경분을 전달
+발행은 비동기라 순서가 뒤바뀔 수 있으므로 변경분에 저장 시점의 스케줄 버전을 담아 전달,
+클라이언트는 멤버별로 이미 받은 버전보다 작거나 같은 변경분은 무시
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class LocationStreamService {
+
+    public static final String CHANNEL_PREFIX = "schedule-location:";
+    private static final long EMITTER_TIMEOUT_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final EmitterRepository emitterRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public SseEmitter subscribe(Long memberId, Long scheduleId, LocationsResponseDto snapshot) {
+        String emitterId = memberId + "_" + UUID.randomUUID();
+        SseEmitter emitter = emitterRepository.save(scheduleId, emitterId, new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+
+        emitter.onCompletion(() -> emitterRepository.delete(scheduleId, emitterId));
+        emitter.onTimeout(() -> emitterRepository.delete(scheduleId, emitterId));
+        emitter.onError(e -> emitterRepository.delete(scheduleId, emitterId));
+
+        // 연결 직후 전체 위치 전달, 이후에는 변경분만 전달
+        send(scheduleId, emitterId, emitter, "snapshot", snapshot);
+        return emitter;
+    }
+
+    public void publishLocation(Long scheduleId, Long version, RealTimeLocationResDto location) {
+        publish(new LocationStreamMessage(scheduleId, LOCATION, version, location));
+    }
+
+    public void publishClose(Long scheduleId) {
+        publish(new LocationStreamMessage(scheduleId, CLOSE, null, null));
+    }
+
+    // Redis 채널로부터 수신한 메시지를 현재 인스턴스의 구독자에게 전달
+    public void dispatch(LocationStreamMessage message) {
+        Long scheduleId = message.getScheduleId();
+
+        if (message.getType() == CLOSE) {
+            emitterRepository.deleteAllByScheduleId(scheduleId).forEach((emitterId, emitter) -> {
+                send(scheduleId, emitterId, emitter, "close", scheduleId);
+                emitter.complete();
+            });
+            return;
+        }
+
+        // 스냅샷과 같은 형식의 변경분으로 전달
+        LocationsResponseDto delta = new LocationsResponseDto(message.getVersion(), true, List.of(message.getLocation()));
+        Map<String, SseEmitter> emitters = emitterRepository.findAllByScheduleId(scheduleId);
+        emitters.forEach((emitterId, emitter) -> send(scheduleId, emitterId, emitter, "location", delta));
+    }
+
+    private void publish(LocationStreamMessage message) {
+        redisTemplate.convertAndSend(CHANNEL_PREFIX + message.getScheduleId(), ObjectMapperUtil.toJson(message));
+    }
+
+    private void send(Long scheduleId, String emitterId, SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(eventName)
+                    .data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.info("LocationStreamService.send disconnected emitter {} in schedule {}", emitterId, scheduleId);
+            emitterRepository.delete(scheduleId, emitterId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package map.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+위치 저장 빈도 조절
+마지막으로 저장한 위치에서 min-distance 미만으로 이동했거나, min-interval 안에 다시 보낸 위치는 저장하지 않음
+정지한 멤버의 위치가 만료되지 않도록 max-interval 이 지나면 이동 거리와 관계없이 저장
+
+인스턴스 메모리에 멤버별 마지막 저장 위치를 보관하며, 저장/생략 횟수는 map.location.write 카운터로 노출
+ */
+@Component
+public class LocationWritePolicy {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+    private final boolean enabled;
+    private final double minDistanceMeters;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final Cache<LastWriteKey, LastWrite> lastWrites;
+
+    private final Counter acceptedCounter;
+    private final Counter suppressedCounter;
+
+    public LocationWritePolicy(@Value("${map.location.throttle.enabled:true}") boolean enabled,
+                               @Value("${map.location.throttle.min-distance-meters:5}") double minDistanceMeters,
+                               @Value("${map.location.throttle.min-interval-millis:1000}") long minIntervalMillis,
+                               @Value("${map.location.throttle.max-interval-millis:60000}") long maxIntervalMillis,
+                               @Value("${map.location.throttle.max-size:100000}") long maxSize,
+                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.minDistanceMeters = minDistanceMeters;
+        this.minIntervalMillis = minIntervalMillis;
+        this.maxIntervalMillis = maxIntervalMillis;
+        this.lastWrites = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(maxIntervalMillis))
+                .build();
+
+        this.acceptedCounter = meterRegistry.counter("map.location.write", "result", "accepted");
+        this.suppressedCounter = meterRegistry.counter("map.location.write", "result", "suppressed");
+    }
+
+    // 저장해야 하는 위치면 마지막 저장 위치를 갱신하고 true
+    public boolean shouldWrite(Long scheduleId, Long memberId, double latitude, double longitude) {
+        if (!enabled) {
+            acceptedCounter.increment();
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean[] accepted = new boolean[1];
+        lastWrites.asMap().compute(new LastWriteKey(scheduleId, memberId), (key, last) -> {
+            accepted[0] = last == null || isMeaningfulChange(last, latitude, longitude, now);
+            return accepted[0] ? new LastWrite(latitude, longitude, now) : last;
+        });
+
+        (accepted[0] ? acceptedCounter : suppressedCounter).increment();
+        return accepted[0];
+    }
+
+    private boolean isMeaningfulChange(LastWrite last, double latitude, double longitude, long now) {
+        long elapsed = now - last.savedAt();
+        if (elapsed >= maxIntervalMillis) return true;
+        if (elapsed < minIntervalMillis) return false;
+
+        return distanceMeters(last.latitude(), last.longitude(), latitude, longitude) >= minDistanceMeters;
+    }
+
+    // 하버사인 거리(m)
+    private double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(a));
+    }
+
+    private record LastWriteKey(Long scheduleId, Long memberId) {
+    }
+
+    private record LastWrite(double latitude, double longitude, long savedAt) {
+    }
+}
@@ -10,19 +10,27 @@ import common.kafka_message.ScheduleCloseMessage;
 import common.kafka_message.alarm.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import map.application_event.event.LocationChangedEvent;
 import map.application_event.event.MemberArrivalEvent;
+import map.application_event.event.MemberArrivalMarkedEvent;
 import map.application_event.event.ScheduleCloseEvent;
+import map.cache.ScheduleAccessCache;
 import map.dto.*;
 import map.exception.MemberNotFoundException;
 import map.exception.ScheduleException;
 import map.kafka.KafkaProducerService;
 import map.repository.arrival.ArrivalRepository;
+import map.repository.location_trail.LocationTrailRepository;
 import map.repository.member.MemberRepository;
 import map.repository.schedule.ScheduleRepository;
+import map.repository.schedule_location.LocationTrailPoint;
 import map.repository.schedule_location.ScheduleLocationRepository;
+import map.repository.schedule_location.ScheduleLocationSnapshot;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -37,11 +45,17 @@ import static common.response.status.BaseErrorCode.NO_SUCH_SCHEDULE;
 @Service
 public class MapService {
 
+    private static final int TRAIL_FLUSH_SIZE = 1000;
+
     private final KafkaProducerService kafkaService;
     private final MemberRepository memberRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleAccessCache scheduleAccessCache;
     private final ScheduleLocationRepository scheduleLocationRepository;
     private final ArrivalRepository arrivalRepository;
+    private final LocationStreamService locationStreamService;
+    private final LocationWritePolicy locationWritePolicy;
+    private final LocationTrailRepository locationTrailRepository;
 
     private final ApplicationEventPublisher publisher;
 
@@ -54,30 +68,57 @@ public class MapService {
     }
 
     @Transactional
-    public LocationsResponseDto saveAndSendAllLocation(Long memberId, Long scheduleId, RealTimeLocationDto realTimeLocationDto) {
+    public LocationsResponseDto saveAndSendAllLocation(Long memberId, Long scheduleId, RealTimeLocationDto realTimeLocationDto, Long sinceVersion) {
         // 검증
         checkMemberInSchedule(memberId, scheduleId);
 
-        // Redis에 해당 위치 저장
-        scheduleLocationRepository.saveLocation(scheduleId, memberId, realTimeLocationDto.getLatitude(), realTimeLocationDto.getLongitude());
+        // 이동이 거의 없거나 너무 잦은 위치는 저장하지 않고 저장된 위치만 조회
+        if (!locationWritePolicy.shouldWrite(scheduleId, memberId, realTimeLocationDto.getLatitude(), realTimeLocationDto.getLongitude())) {
+            return toLocationsResponseDto(scheduleLocationRepository.getScheduleLocations(scheduleId, sinceVersion));
+        }
 
-        // Redis에 담긴 scheduleId에 해당하는 모든 위치 Load
-        List<RealTimeLocationResDto> scheduleLocations = scheduleLocationRepository.getScheduleLocations(scheduleId);
+        // Redis에 해당 위치 저장 후 scheduleId에 해당하는 위치 Load (단일 왕복), sinceVersion 이 있으면 변경분만
+        // 저장한 위치가 도착지 반경 안인지 함께 확인
+        Location destination = scheduleAccessCache.getDestination(scheduleId, () -> findSchedule(scheduleId).getLocation());
+        ScheduleLocationSnapshot scheduleLocations = scheduleLocationRepository.saveLocationAndGetScheduleLocations(scheduleId, memberId,
+                realTimeLocationDto.getLatitude(), realTimeLocationDto.getLongitude(), destination, sinceVersion);
+
+        // 위치 스트림 구독자에게 변경분 전달, 이미 도착한 멤버라 저장되지 않은 위치는 전달하지 않음 (도착지 위치 유지)
+        if (scheduleLocations.isWritten()) {
+            publisher.publishEvent(new LocationChangedEvent(scheduleId, scheduleLocations.getVersion(),
+                    new RealTimeLocationResDto(memberId, realTimeLocationDto.getLatitude(), realTimeLocationDto.getLongitude(), false)));
+        }
+
+        // 도착 반경 안에 들어오면 클라이언트 도착 요청 없이 도착 처리
+        if (scheduleLocations.isArrivalDetected() && isScheduleInRun(scheduleId)) {
+            arrive(memberId, findSchedule(scheduleId), LocalDateTime.now());
+        }
 
         // Response로 전달
-        return new LocationsResponseDto(scheduleLocations.size(), scheduleLocations);
+        return toLocationsResponseDto(scheduleLocations);
     }
 
     // 도착한 사람은 위치 정보 보낼 필요 없이 GET 할 수 있도록
-    public LocationsResponseDto getAllLocation(Long memberId, Long scheduleId) {
+    public LocationsResponseDto getAllLocation(Long memberId, Long scheduleId, Long sinceVersion) {
         // 검증
         checkMemberInSchedule(memberId, scheduleId);
 
-        // Redis에 담긴 scheduleId에 해당하는 모든 위치 Load
-        List<RealTimeLocationResDto> scheduleLocations = scheduleLocationRepository.getScheduleLocations(scheduleId);
+        // Redis에 담긴 scheduleId에 해당하는 위치 Load, sinceVersion 이 있으면 변경분만
+        ScheduleLocationSnapshot scheduleLocations = scheduleLocationRepository.getScheduleLocations(scheduleId, sinceVersion);
 
         // Response로 전달
-        return new LocationsResponseDto(scheduleLocations.size(), scheduleLocations);
+        return toLocationsResponseDto(scheduleLocations);
+    }
+
+    // 위치 폴링 대신 변경분을 SSE로 수신
+    public SseEmitter subscribeLocation(Long memberId, Long scheduleId) {
+        // 검증
+        checkMemberInSchedule(memberId, scheduleId);
+
+        // 구독 시점의 전체 위치를 먼저 전달
+        ScheduleLocationSnapshot scheduleLocations = scheduleLocationRepository.getScheduleLocations(scheduleId, null);
+
+        return locationStreamService.subscribe(memberId, scheduleId, toLocationsResponseDto(scheduleLocations));
     }
 
     @Transactional
@@ -86,32 +127,47 @@ public class MapService {
         checkMemberInSchedule(memberId, scheduleId);
         checkScheduleInRun(scheduleId);
 
-        //  Arrival에 해당 멤버 도착 저장
         Schedule schedule = findSchedule(scheduleId);
+        arrive(memberId, schedule, arrivalDto.getArrivalTime());
+
+        return scheduleId;
+    }
+
+    private void arrive(Long memberId, Schedule schedule, LocalDateTime arrivalTime) {
+        Long scheduleId = schedule.getId();
+
+        // 도착하면? TTL 삭제 후 도착 상태로 저장, 이미 도착 처리된 멤버면 무시 (자동 도착 감지와 도착 요청 중복 방지)
+        Location location = schedule.getLocation();
+        ScheduleLocationSnapshot arrivedLocation = scheduleLocationRepository.saveArrivedLocation(scheduleId, memberId,
+                location.getLatitude(), location.getLongitude());
+        if (!arrivedLocation.isArrivalDetected()) {
+            return;
+        }
+
+        // Redis 도착 처리는 바로 반영되므로, 아래 Arrival 저장이 롤백되면 되돌림
+        publisher.publishEvent(new MemberArrivalMarkedEvent(memberId, scheduleId));
+
+        //  Arrival에 해당 멤버 도착 저장
         ScheduleMember scheduleMember = findScheduleMember(memberId, scheduleId);
 
         arrivalRepository.save(
                 Arrival.builder()
                         .scheduleMemberId(scheduleMember.getId())
-                        .arrivalTime(arrivalDto.getArrivalTime())
+                        .arrivalTime(arrivalTime)
                         .build()
         );
 
-        // 도착하면? TTL 삭제 후 도착 상태로 저장
-        Location location = schedule.getLocation();
-        scheduleLocationRepository.saveLocation(scheduleId, memberId, location.getLatitude(), location.getLongitude());
-        scheduleLocationRepository.updateArrivalStatus(scheduleId, memberId, true);
+        publisher.publishEvent(new LocationChangedEvent(scheduleId, arrivedLocation.getVersion(),
+                new RealTimeLocationResDto(memberId, location.getLatitude(), location.getLongitude(), true)));
 
         // 멤버 도착 이벤트 발행
-        MemberArrivalEvent event = new MemberArrivalEvent(memberId, scheduleId, schedule.getScheduleName(), arrivalDto.getArrivalTime());
+        MemberArrivalEvent event = new MemberArrivalEvent(memberId, scheduleId, schedule.getScheduleName(), arrivalTime);
         publisher.publishEvent(event);
 
         // 모든 멤버 도착 확인, 카프카로 스케줄 종료 전달
         if(arrivalRepository.isAllMembersInScheduleArrived(scheduleId)) {
-            publisher.publishEvent(new ScheduleCloseEvent(scheduleId, arrivalDto.getArrivalTime()));
+            publisher.publishEvent(new ScheduleCloseEvent(scheduleId, arrivalTime));
         }
-
-        return scheduleId;
     }
 
     public Long sendEmoji(Long memberId, Long scheduleId, EmojiDto emojiDto) {
@@ -140,12 +196,33 @@ public class MapService {
         return scheduleId;
     }
 
+    // EventHandle : 도착 처리 트랜잭션 롤백
+    public void cancelArrivedLocation(Long memberId, Long scheduleId) {
+        scheduleLocationRepository.cancelArrivedLocation(scheduleId, memberId);
+    }
+
     // EventHandle : 약속 종료되면 전체 삭제
     @Transactional
     public void deleteAllLocationsInSchedule(Long scheduleId) {
         scheduleLocationRepository.deleteScheduleLocations(scheduleId);
     }
 
+    // EventHandle : 약속 종료되면 이동 경로를 MySQL 로 옮김
+    // 긴 스케줄도 힙에 한 번에 올리지 않도록 TRAIL_FLUSH_SIZE 씩 읽어 배치 insert, 배치마다 커밋
+    // 저장한 지점까지만 스트림에서 잘라내므로 실패 후 재시도하면 남은 지점부터 옮기고, 도중에 추가된 지점도 유실되지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushLocationTrail(Long scheduleId) {
+        String afterStreamId = null;
+        while (true) {
+            List<LocationTrailPoint> points = scheduleLocationRepository.getTrail(scheduleId, afterStreamId, TRAIL_FLUSH_SIZE);
+            if (points.isEmpty()) break;
+
+            locationTrailRepository.saveAllInBatch(scheduleId, points);
+            afterStreamId = points.get(points.size() - 1).getStreamId();
+            scheduleLocationRepository.trimTrail(scheduleId, afterStreamId);
+        }
+    }
+
     @Transactional
     public void makeNotArrivedMemberArrive(Long scheduleId, LocalDateTime closeTime) {
         // Arrival에 저장되지 않은 ScheduleMember 조회
@@ -186,6 +263,10 @@ public class MapService {
         );
     }
 
+    private LocationsResponseDto toLocationsResponseDto(ScheduleLocationSnapshot snapshot) {
+        return new LocationsResponseDto(snapshot.getVersion(), snapshot.isDelta(), snapshot.getLocations(), snapshot.getRemovedMemberIds());
+    }
+
     private Schedule findSchedule(Long scheduleId) {
         return scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new ScheduleException(NO_SUCH_SCHEDULE));
@@ -211,14 +292,20 @@ public class MapService {
     }
 
     private void checkMemberInSchedule(Long memberId, Long scheduleId) {
-        if(!scheduleRepository.existMemberInSchedule(memberId, scheduleId)) {
+        if(!scheduleAccessCache.isMemberInSchedule(memberId, scheduleId,
+                () -> scheduleRepository.existMemberInSchedule(memberId, scheduleId))) {
             throw new ScheduleException(NOT_IN_SCHEDULE);
         }
     }
 
     private void checkScheduleInRun(Long scheduleId) {
-        if (!scheduleRepository.existsByIdAndScheduleStatusAndStatus(scheduleId, RUN, Status.ALIVE)) {
+        if (!isScheduleInRun(scheduleId)) {
             throw new ScheduleException(NO_SUCH_SCHEDULE);
         }
     }
+
+    private boolean isScheduleInRun(Long scheduleId) {
+        return scheduleAccessCache.isScheduleInRun(scheduleId,
+                () -> scheduleRepository.existsByIdAndScheduleStatusAndStatus(scheduleId, RUN, Status.ALIVE));
+    }
 }
@@ -29,6 +29,12 @@ public class RacingSagaService {
      */
     @Transactional
     public void rollbackRacing(Long memberId, PointChangedType pointChangedType, Integer pointAmount, PointChangeReason reason, Long racingId){
+        // 무승부 환불은 멤버별로 합산되어 reasonId 가 scheduleId
+        if (reason == PointChangeReason.RACING_DRAW) {
+            racingRepository.specifyErrorInDrawRacings(racingId, memberId);
+            return;
+        }
+
         Racing racing = racingRepository.findById(racingId)
                 .orElseThrow(() -> new RacingException(NO_SUCH_RACING));
         racing.specifyError();
@@ -12,20 +12,31 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import map.application_event.domain.RacingInfo;
 import map.application_event.event.AskRacingEvent;
+import map.application_event.event.RacingBoardChangedEvent;
+import map.cache.RacingBoardCache;
+import map.cache.ScheduleAccessCache;
 import map.dto.*;
 import map.exception.*;
 import map.kafka.KafkaProducerService;
+import map.redis.BackfillMarker;
+import map.redis.MemberPointReadModel;
 import map.repository.member.MemberRepository;
 import map.repository.racing.RacingRepository;
 import map.repository.schedule.ScheduleRepository;
+import map.scheduler.RacingScheduler;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static common.domain.ExecStatus.RUN;
-import static common.domain.ExecStatus.WAIT;
 import static common.response.status.BaseErrorCode.*;
 
 @Slf4j
@@ -34,31 +45,43 @@ import static common.response.status.BaseErrorCode.*;
 @Service
 public class RacingService {
 
+    private static final String RACER_PAIR_KEY_BACKFILL = "racer-pair-key";
+
     private final KafkaProducerService kafkaService;
     private final ApplicationEventPublisher publisher;
     private final RacingRepository racingRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleAccessCache scheduleAccessCache;
+    private final RacingBoardCache racingBoardCache;
     private final MemberRepository memberRepository;
+    private final MemberPointReadModel memberPointReadModel;
+    private final BackfillMarker backfillMarker;
+    private final RacingScheduler racingScheduler;
 
     public DataResDto<List<RacingResDto>> getRacings(Long memberId, Long scheduleId) {
         // 해당 멤버 스케줄에 존재 / 스케줄이 진행 중인지 검증,
         checkMemberInSchedule(memberId, scheduleId);
         checkScheduleInRun(scheduleId);
 
-        //  해당 스케줄에 속해 있으며 현재 진행 중인 레이싱 종합하여 전달
-        List<RacingResDto> racings = racingRepository.getAllRunningRacingsInSchedule(scheduleId);
+        //  해당 스케줄에 속해 있으며 현재 진행 중인 레이싱 종합하여 전달, 메모리의 레이싱 현황판에서 응답
+        List<RacingResDto> racings = racingBoardCache.getRacings(scheduleId,
+                () -> racingRepository.getAllRunningRacingsInSchedule(scheduleId));
 
         return new DataResDto<>(1, racings);
     }
 
     @Transactional
     public Long makeRacing(Long memberId, Long scheduleId, RacingAddDto racingAddDto) {
-        // 해당 멤버 스케줄에 존재 / 스케줄이 진행 중인지 검증
-        validateCreateRacing(memberId, scheduleId, racingAddDto);
+        // 스케줄이 진행 중인지 검증
+        checkScheduleInRun(scheduleId);
 
-        //  대기 중 레이싱 DB 저장
+        // 해당 멤버 스케줄에 존재하는지 검증, 중복 레이싱/포인트 검증
         Racing racing = createRacing(memberId, scheduleId, racingAddDto);
-        racingRepository.save(racing);
+        validateCreateRacing(memberId, racing, racingAddDto);
+
+        //  대기 중 레이싱 DB 저장
+        saveRacing(racing);
+        publisher.publishEvent(new RacingBoardChangedEvent(scheduleId));
 
         //  카프카로 레이싱 신청 대상자에게 알림 전달
         Schedule schedule = sendAskRacingAlarmToTargetMember(memberId, scheduleId, racingAddDto, racing);
@@ -71,59 +94,60 @@ public class RacingService {
 
     @Transactional
     public void autoDeleteRacingById(RacingInfo racingInfo) {
-        racingRepository.deleteById(racingInfo.getRacingId());
-        AlarmMemberInfo secondRacerInfo = getMemberInfo(racingInfo.getSecondRacerId());
-        String firstRacerFcmToken = findFcmTokenByMemberId(racingInfo.getFirstRacerId());
-        String secondRacerFcmToken = findFcmTokenByMemberId(racingInfo.getSecondRacerId());
+        RacingContext context = racingRepository.findRacingContext(racingInfo.getRacingId()).orElse(null);
+
+        // 수락/거절과 동시에 만료되면 먼저 상태를 바꾼 쪽만 반영
+        if (context == null || racingRepository.deleteWaitingRacing(racingInfo.getRacingId()) == 0) {
+            return;
+        }
+        publisher.publishEvent(new RacingBoardChangedEvent(context.getScheduleId()));
 
         kafkaService.sendMessage(KafkaTopic.ALARM,
-                new RacingAutoDeletedMessage(List.of(firstRacerFcmToken, secondRacerFcmToken),
+                new RacingAutoDeletedMessage(context.getRacersFcmTokens(),
                         AlarmMessageType.RACING_AUTO_DELETED,
-                        racingInfo.getScheduleId(),
-                        racingInfo.getScheduleName(),
-                        racingInfo.getRacingId(),
-                        racingInfo.getPointAmount(),
-                        secondRacerInfo
+                        context.getScheduleId(),
+                        context.getScheduleName(),
+                        context.getRacingId(),
+                        context.getPointAmount(),
+                        context.getSecondRacerInfo()
                 )
         );
     }
 
     @Transactional
     public Long acceptRacing(Long memberId, Long scheduleId, Long racingId) {
-        // 레이싱이 대기 중인지 검증,
-        checkRacingInWait(racingId);
+        // 레이싱, 두 레이서, 스케줄 정보 한 번에 조회
+        RacingContext context = findRacingContext(racingId);
 
         //  두 유저 모두 충분한 포인트를 가졌는지 확인
-        checkBothMemberHaveEnoughRacingPoint(racingId);
-
-        //  카프카로 레이싱 신청자에게 알림 전달, 레이싱 상태 진행 중으로 변경
-        Racing racing = findRacing(racingId);
-        racing.startRacing();
+        checkBothMemberHaveEnoughRacingPoint(context);
 
-        List<AlarmMemberInfo> racingMemberInfos = getMemberInfosInRacing(racingId);
-        List<String> racersTokens = findRacersFcmTokensInRacing(racingId);
+        //  레이싱 상태 진행 중으로 변경, 대기 중이 아니면 (거절/만료와 경합 포함) 실패
+        startWaitingRacing(racingId);
+        racingScheduler.cancel(racingId);
+        publisher.publishEvent(new RacingBoardChangedEvent(context.getScheduleId()));
 
-        Schedule schedule = findSchedule(scheduleId);
+        //  카프카로 레이싱 신청자에게 알림 전달
 
         kafkaService.sendMessage(KafkaTopic.ALARM,
-                new RacingStartMessage(racersTokens,
+                new RacingStartMessage(context.getRacersFcmTokens(),
                         AlarmMessageType.RACING_START,
                         scheduleId,
-                        schedule.getScheduleName(),
+                        context.getScheduleName(),
                         racingId,
-                        racing.getPointAmount(),
-                        racingMemberInfos.get(0),
-                        racingMemberInfos.get(1)
+                        context.getPointAmount(),
+                        context.getFirstRacerInfo(),
+                        context.getSecondRacerInfo()
                         )
                 );
 
         // 두 대상자에게 포인트 차감 전달
-        racingMemberInfos.forEach(r ->
+        context.getRacerInfos().forEach(r ->
                 kafkaService.sendMessage(KafkaTopic.ALARM,
                         new PointChangedMessage(
                                 r.getMemberId(),
                                 PointChangedType.MINUS,
-                                racing.getPointAmount(),
+                                context.getPointAmount(),
                                 PointChangeReason.RACING,
                                 racingId
                         )
@@ -136,29 +160,26 @@ public class RacingService {
 
     @Transactional
     public Long denyRacing(Long memberId, Long scheduleId, Long racingId) {
-        // 레이싱이 대기 중인지 검증, 거절을 누른 멤버가 레이싱의 대상자인지 검증
-        checkRacingInWait(racingId);
-        checkMemberIsSecondRacerInRacing(memberId, racingId);
+        // 거절을 누른 멤버가 레이싱의 대상자인지 검증
+        RacingContext context = findRacingContext(racingId);
+        checkMemberIsSecondRacerInRacing(memberId, context);
 
-        //  카프카로 레이싱 신청 참가자에게 알림 전송
-        Schedule schedule = findSchedule(scheduleId);
-
-        List<String> racersTokens = findRacersFcmTokensInRacing(racingId);
-        AlarmMemberInfo memberInfo = getMemberInfo(memberId);
+        //  대기 중 레이싱 상태 DELETE로 변경, 대기 중이 아니면 (수락/만료와 경합 포함) 실패
+        cancelWaitingRacing(racingId);
+        racingScheduler.cancel(racingId);
+        publisher.publishEvent(new RacingBoardChangedEvent(context.getScheduleId()));
 
+        //  카프카로 레이싱 신청 참가자에게 알림 전송
         kafkaService.sendMessage(KafkaTopic.ALARM,
-                new RacingDeniedMessage(racersTokens,
+                new RacingDeniedMessage(context.getRacersFcmTokens(),
                         AlarmMessageType.RACING_DENIED,
                         scheduleId,
-                        schedule.getScheduleName(),
+                        context.getScheduleName(),
                         racingId,
-                        memberInfo
+                        context.getSecondRacerInfo()
                         )
         );
 
-        //  대기 중 레이싱 싱테 DELETE로 변경
-        racingRepository.cancelRacing(racingId);
-
         return racingId;
     }
 
@@ -168,29 +189,34 @@ public class RacingService {
         // 멤버의 도착으로 해당 멤버의 모든 레이싱 종료 처리
         Long scheduleMemberId = getScheduleMemberIdByMemberAndScheduleId(memberId, scheduleId);
 
-        // 회원이 소속된 진행 중인 레이싱 정보 조회
-        List<RunningRacingDto> runningRacingDtos = racingRepository.findRunningRacingsByScheduleMemberId(scheduleMemberId);
+        // 회원이 소속된 진행 중인 레이싱을 잠가, 동시에 실행된 스케줄 종료/중복 도착은 이 트랜잭션이 끝난 뒤 남은 레이싱만 정산
+        List<Long> racingIds = racingRepository.findRunningRacingIdsByScheduleMemberIdForUpdate(scheduleMemberId);
+        if (racingIds.isEmpty()) return;
 
         // 레이싱 종료 처리를 위한 update 벌크 쿼리
-        racingRepository.setWinnerAndTermRacingByScheduleMemberId(scheduleMemberId);
+        racingRepository.setWinnerAndTermRacings(racingIds, scheduleMemberId);
+        publisher.publishEvent(new RacingBoardChangedEvent(scheduleId));
 
-        runningRacingDtos.forEach(r -> {
-            Long loserId = r.getFirstScheduleMemberId();
-            if (r.getFirstScheduleMemberId().equals(scheduleMemberId)) {
-                loserId = r.getSecondScheduleMemberId();
-            }
+        // 이 도착으로 승자가 정해진 레이싱과 두 레이서 정보 한 번에 조회, 그 사이 무승부로 종료된 레이싱은 제외
+        List<RacingContext> contexts = racingRepository.findWonRacingContexts(racingIds, scheduleMemberId);
+        if (contexts.isEmpty()) return;
 
-            makeRacingTermAndWinnerPrized(scheduleId, scheduleName, r.getRacingId(), scheduleMemberId, loserId, r.getPointAmount());
-        });
+        // 상금 지급, 종료 알림 메시지를 모아 한 번에 전송
+        List<Object> messages = new ArrayList<>();
+        contexts.forEach(context ->
+                addRacingTermAndWinnerPrizedMessages(messages, scheduleId, scheduleName, context, scheduleMemberId));
 
+        kafkaService.sendMessages(KafkaTopic.ALARM, messages);
     }
 
-    private void makeRacingTermAndWinnerPrized(Long scheduleId, String scheduleName, Long racingId, Long winnerScheduleMemberId, Long loserScheduleMemberId, Integer pointAmount) {
-        AlarmMemberInfo winnerInfo = getMemberInfoByScheduleMemberId(winnerScheduleMemberId);
-        AlarmMemberInfo loserInfo = getMemberInfoByScheduleMemberId(loserScheduleMemberId);
+    private void addRacingTermAndWinnerPrizedMessages(List<Object> messages, Long scheduleId, String scheduleName, RacingContext context, Long winnerScheduleMemberId) {
+        Long racingId = context.getRacingId();
+        Integer pointAmount = context.getPointAmount();
+        AlarmMemberInfo winnerInfo = context.getRacerInfo(winnerScheduleMemberId);
+        AlarmMemberInfo loserInfo = context.getRacerInfo(context.getOpponentScheduleMemberId(winnerScheduleMemberId));
 
         // 승리자 아쿠 추가 (레이싱 성사 때 차감된 금액 + 상금)
-        kafkaService.sendMessage(KafkaTopic.ALARM,
+        messages.add(
                 new PointChangedMessage(
                         winnerInfo.getMemberId(),
                         PointChangedType.PLUS,
@@ -200,11 +226,9 @@ public class RacingService {
                 )
         );
 
-        List<String> racersTokens = findRacersFcmTokensInRacing(racingId);
-
         // 레이싱 종료 알림
-        kafkaService.sendMessage(KafkaTopic.ALARM,
-                new RacingTermMessage(racersTokens,
+        messages.add(
+                new RacingTermMessage(context.getRacersFcmTokens(),
                         AlarmMessageType.RACING_TERM,
                         scheduleId,
                         scheduleName,
@@ -216,36 +240,47 @@ public class RacingService {
         );
     }
 
+    // 재시작 시 racerPairKey 가 비어 있는 기존 레이싱 백필, 새 레이싱은 항상 racerPairKey 를 가지므로 한 번만 필요
+    // 채울 행이 없음을 확인한 실행에서 완료 표시, 이후 재시작에서는 전체 레이싱을 훑는 백필 쿼리를 실행하지 않음
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRacerPairKeys() {
+        if (backfillMarker.isDone(RACER_PAIR_KEY_BACKFILL)) return;
+
+        int count = racingRepository.backfillRacerPairKeys();
+        if (count > 0) {
+            log.info("RacingService.backfillRacerPairKeys filled {} racings", count);
+        } else {
+            backfillMarker.markDone(RACER_PAIR_KEY_BACKFILL);
+        }
+    }
+
     @Transactional
     public void terminateRunningRacing(Long scheduleId) {
+        // 스케줄의 진행 중인 레이싱을 잠가, 동시에 도착한 멤버의 정산은 이 트랜잭션이 끝난 뒤 남은 레이싱만 처리
+        List<Long> racingIds = racingRepository.findRunningRacingIdsInScheduleForUpdate(scheduleId);
+        if (racingIds.isEmpty()) return;
+
         // 스케줄 종료 이후 진행 중인 레이싱 모두 무승부 처리
-        racingRepository.terminateRunningRacing(scheduleId);
-
-        List<TermRacingDto> racingDtos = racingRepository.findTermRacingIdsWithNoWinnerInSchedule(scheduleId);
-
-        racingDtos.forEach(r -> {
-            AlarmMemberInfo firstInfo = getMemberInfoByScheduleMemberId(r.getFirstScheduleMemberId());
-            AlarmMemberInfo secondInfo = getMemberInfoByScheduleMemberId(r.getSecondScheduleMemberId());
-
-            kafkaService.sendMessage(KafkaTopic.ALARM,
-                    new PointChangedMessage(
-                            firstInfo.getMemberId(),
-                            PointChangedType.PLUS,
-                            r.getPointAmount(),
-                            PointChangeReason.RACING_DRAW,
-                            r.getRacingId()
-                    )
-            );
-
-            kafkaService.sendMessage(KafkaTopic.ALARM,
-                    new PointChangedMessage(
-                            secondInfo.getMemberId(),
-                            PointChangedType.PLUS,
-                            r.getPointAmount(),
-                            PointChangeReason.RACING_DRAW,
-                            r.getRacingId())
-            );
-        });
+        racingRepository.terminateRunningRacings(racingIds);
+        publisher.publishEvent(new RacingBoardChangedEvent(scheduleId));
+
+        // 이 종료로 무승부가 된 레이싱만 환불, 환불 금액은 멤버별로 합산해 멤버당 하나의 메시지로 전달
+        // 여러 레이싱을 합산하므로 reasonId 는 scheduleId
+        Map<Long, Integer> refunds = new LinkedHashMap<>();
+        racingRepository.findDrawRacingContexts(racingIds).forEach(context -> context.getRacerInfos()
+                .forEach(info -> refunds.merge(info.getMemberId(), context.getPointAmount(), Integer::sum)));
+
+        List<PointChangedMessage> messages = refunds.entrySet().stream()
+                .map(refund -> new PointChangedMessage(
+                        refund.getKey(),
+                        PointChangedType.PLUS,
+                        refund.getValue(),
+                        PointChangeReason.RACING_DRAW,
+                        scheduleId))
+                .toList();
+
+        kafkaService.sendMessages(KafkaTopic.ALARM, messages);
     }
 
     private void publishRacingCreatedEvent(Long memberId, Long scheduleId, RacingAddDto racingAddDto, Schedule schedule, Racing racing) {
@@ -285,12 +320,9 @@ public class RacingService {
         return racing;
     }
 
-    private void validateCreateRacing(Long memberId, Long scheduleId, RacingAddDto racingAddDto) {
-        // 해당 멤버 스케줄에 존재 / 스케줄이 진행 중인지 검증
-        checkScheduleInRun(scheduleId);
-
-        //  이미 중복된 레이싱이 존재하는지 검증,
-        checkDuplicateRacing(scheduleId, memberId, racingAddDto.getTargetMemberId());
+    private void validateCreateRacing(Long memberId, Racing racing, RacingAddDto racingAddDto) {
+        //  이미 중복된 레이싱이 존재하는지 검증, 두 레이서 쌍 키 인덱스 조회
+        checkDuplicateRacing(racing.getRacerPairKey());
 
         //  두 유저 모두 충분한 포인트를 가졌는지 확인
         checkEnoughRacingPoint(memberId, racingAddDto.getPoint());
@@ -312,67 +344,76 @@ public class RacingService {
                 .orElseThrow(() -> new MemberNotFoundException());
     }
 
-    private AlarmMemberInfo getMemberInfoByScheduleMemberId(Long scheduleMemberId) {
-        return memberRepository.findMemberInfoByScheduleMemberId(scheduleMemberId)
-                .orElseThrow(() -> new MemberNotFoundException());
-    }
-
     private Long getScheduleMemberIdByMemberAndScheduleId(Long memberId, Long scheduleId) {
         return scheduleRepository.findScheduleMemberIdByMemberAndScheduleId(memberId, scheduleId)
                 .orElseThrow(() -> new ScheduleException(NOT_IN_SCHEDULE));
     }
 
-    private Racing findRacing(Long racingId) {
-        return racingRepository.findById(racingId)
+    private RacingContext findRacingContext(Long racingId) {
+        return racingRepository.findRacingContext(racingId)
                 .orElseThrow(() -> new RacingException(NO_SUCH_RACING));
     }
 
-    private List<AlarmMemberInfo> getMemberInfosInRacing(Long racingId) {
-        return racingRepository.findMemberInfoByScheduleMemberId(racingId);
-    }
-
-    private List<String> findRacersFcmTokensInRacing(Long racingId) {
-        return racingRepository.findRacersFcmTokensInRacing(racingId);
-    }
-
     private void checkMemberInSchedule(Long memberId, Long scheduleId) {
-        if(!scheduleRepository.existMemberInSchedule(memberId, scheduleId)) {
+        if(!scheduleAccessCache.isMemberInSchedule(memberId, scheduleId,
+                () -> scheduleRepository.existMemberInSchedule(memberId, scheduleId))) {
             throw new ScheduleException(NOT_IN_SCHEDULE);
         }
     }
 
     private void checkScheduleInRun(Long scheduleId) {
-        if (!scheduleRepository.existsByIdAndScheduleStatusAndStatus(scheduleId, RUN, Status.ALIVE)) {
+        if (!scheduleAccessCache.isScheduleInRun(scheduleId,
+                () -> scheduleRepository.existsByIdAndScheduleStatusAndStatus(scheduleId, RUN, Status.ALIVE))) {
             throw new ScheduleException(NO_SUCH_SCHEDULE);
         }
     }
 
-    private void checkDuplicateRacing(Long scheduleId, Long firstMemberId, Long secondMemberId) {
-        if (racingRepository.existsByFirstMemberIdAndSecondMemberId(scheduleId, firstMemberId, secondMemberId)) {
+    private void checkDuplicateRacing(String racerPairKey) {
+        if (racingRepository.existsByRacerPairKey(racerPairKey)) {
+            throw new RacingException(DUPLICATE_RACING);
+        }
+    }
+
+    // 조회와 저장 사이에 같은 쌍의 레이싱이 먼저 저장되면 유니크 인덱스 위반으로 중복 처리
+    private void saveRacing(Racing racing) {
+        try {
+            racingRepository.saveAndFlush(racing);
+        } catch (DataIntegrityViolationException e) {
             throw new RacingException(DUPLICATE_RACING);
         }
     }
 
-    private void checkRacingInWait(Long racingId) {
-        if (!racingRepository.existsByIdAndRaceStatusAndStatus(racingId, WAIT, Status.ALIVE)) {
+    private void startWaitingRacing(Long racingId) {
+        if (racingRepository.startWaitingRacing(racingId) == 0) {
             throw new ScheduleException(NO_SUCH_SCHEDULE);
         }
     }
 
+    private void cancelWaitingRacing(Long racingId) {
+        if (racingRepository.cancelWaitingRacing(racingId) == 0) {
+            throw new ScheduleException(NO_SUCH_SCHEDULE);
+        }
+    }
+
+    // 읽기 모델에서 충분하면 DB 조회 생략, 없거나 부족하다고 나오면 DB 로 확인
     private void checkEnoughRacingPoint(Long memberId, Integer point){
+        if(memberPointReadModel.getPoint(memberId).filter(cachedPoint -> cachedPoint >= point).isPresent()){
+            return;
+        }
+
         if(!memberRepository.checkEnoughRacingPoint(memberId, point)){
             throw new NotEnoughPointException();
         }
     }
 
-    private void checkBothMemberHaveEnoughRacingPoint(Long racingId){
-        if(!racingRepository.checkBothMemberHaveEnoughRacingPoint(racingId)){
+    private void checkBothMemberHaveEnoughRacingPoint(RacingContext context){
+        if(!context.bothRacersHaveEnoughPoint()){
             throw new NotEnoughPointException();
         }
     }
 
-    private void checkMemberIsSecondRacerInRacing(Long memberId, Long racingId) {
-        if (!racingRepository.checkMemberIsSecondRacerInRacing(memberId, racingId)) {
+    private void checkMemberIsSecondRacerInRacing(Long memberId, RacingContext context) {
+        if (!context.isSecondRacer(memberId)) {
             throw new RacingException(NOT_IN_RACING);
         }
     }
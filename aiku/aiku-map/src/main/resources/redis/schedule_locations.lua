@@ -0,0 +1,144 @@
+-- 스케줄 위치 저장/조회를 한 번의 왕복으로 처리
+-- KEYS[1] : 스케줄 위치 해시 (memberId -> 위치 레코드)
+-- KEYS[2] : 스케줄 버전 해시 (current -> 스케줄 버전, epoch -> 버전 시작값, memberId -> 마지막으로 변경된 버전)
+--           버전은 해시 생성 시각(ms) * 1000 에서 시작하므로, 키 만료 후 다시 만들어지면 이전 버전보다 항상 큼
+-- KEYS[3] : 스케줄 GEO 셋 (memberId, destination -> 좌표)
+-- KEYS[4] : 도착 처리된 memberId 셋
+-- KEYS[5] : 스케줄 이동 경로 스트림 (memberId, lat, lon), 최대 길이 제한
+-- KEYS[6] : 도착 전 멤버의 마지막 위치 저장 시각 ZSET (memberId -> epoch millis)
+-- ARGV[1] : 저장할 memberId, 빈 문자열이면 저장하지 않음
+-- ARGV[2] : 저장할 위치 레코드
+-- ARGV[3] : 키 TTL(초)
+-- ARGV[4] : sinceVersion, 음수면 전체 조회, 빈 문자열이면 조회하지 않음
+-- ARGV[5], ARGV[6] : 저장할 경도, 위도
+-- ARGV[7], ARGV[8], ARGV[9] : 도착지 경도, 위도, 도착 반경(m), 빈 문자열이면 도착 감지하지 않음
+-- ARGV[10] : '1' 이면 도착 처리 저장 (도착 셋에 없는 경우에만 저장), '2' 이면 도착 처리 취소 (위치는 제거된 멤버로 전달)
+-- ARGV[11] : 이동 경로 스트림 최대 길이
+-- ARGV[12] : 현재 시각(epoch millis), ARGV[13] : 도착 전 멤버 위치 유효 시간(ms)
+-- return  : {스케줄 버전, 변경분 여부(1/0), 도착 여부(1/0), 저장 여부(1/0), memberId, 위치 레코드, memberId, 위치 레코드, ...}
+--           변경분에서 제거된 멤버는 빈 위치 레코드로 전달
+--           조회하지 않으면 {스케줄 버전, 0, 도착 여부(1/0), 저장 여부(1/0)}
+--           도착 여부 : 도착 처리 저장이면 새로 도착 처리되었는지, 일반 저장이면 도착 반경 안에 들어왔는지
+--           저장 여부 : 위치 레코드를 실제로 저장했는지, 이미 도착한 멤버의 위치 전송은 저장하지 않음
+
+local function in_geo_range(lon, lat)
+    return lon ~= nil and lat ~= nil and lon >= -180 and lon <= 180 and lat >= -85.05112878 and lat <= 85.05112878
+end
+
+-- 버전 해시가 처음 만들어지면 현재 시각 기준으로 epoch 저장, 숫자 변환 시 자릿수가 잘리지 않도록 문자열로 붙임
+local function next_version()
+    if redis.call('HSETNX', KEYS[2], 'epoch', ARGV[12] .. '000') == 1 then
+        redis.call('HSET', KEYS[2], 'current', ARGV[12] .. '000')
+    end
+    return redis.call('HINCRBY', KEYS[2], 'current', 1)
+end
+
+local function save(member, arrived)
+    local version = next_version()
+    redis.call('HSET', KEYS[1], member, ARGV[2])
+    redis.call('HSET', KEYS[2], member, version)
+    if arrived then
+        -- 도착한 멤버는 만료 대상에서 제외
+        redis.call('ZREM', KEYS[6], member)
+    else
+        redis.call('ZADD', KEYS[6], ARGV[12], member)
+    end
+
+    local lon, lat = tonumber(ARGV[5]), tonumber(ARGV[6])
+    if in_geo_range(lon, lat) then
+        redis.call('GEOADD', KEYS[3], lon, lat, member)
+    end
+    redis.call('XADD', KEYS[5], 'MAXLEN', '~', ARGV[11], '*', 'memberId', member, 'lat', ARGV[6], 'lon', ARGV[5])
+
+    for i = 1, 6 do
+        redis.call('EXPIRE', KEYS[i], tonumber(ARGV[3]))
+    end
+end
+
+if ARGV[10] == '2' then
+    if redis.call('SREM', KEYS[4], ARGV[1]) == 1 then
+        redis.call('HDEL', KEYS[1], ARGV[1])
+        redis.call('ZREM', KEYS[3], ARGV[1])
+        redis.call('HSET', KEYS[2], ARGV[1], next_version())
+    end
+    return {tonumber(redis.call('HGET', KEYS[2], 'current')) or 0, 0, 0, 0}
+end
+
+local arrival, written = 0, 0
+if ARGV[1] ~= '' then
+    if ARGV[10] == '1' then
+        -- 자동 도착 감지와 클라이언트 도착 요청이 겹쳐도 한 번만 도착 처리
+        if redis.call('SADD', KEYS[4], ARGV[1]) == 1 then
+            save(ARGV[1], true)
+            arrival, written = 1, 1
+        end
+    elseif redis.call('SISMEMBER', KEYS[4], ARGV[1]) == 0 then
+        -- 도착한 멤버의 위치는 도착지로 고정
+        save(ARGV[1], false)
+        written = 1
+
+        local dlon, dlat, radius = tonumber(ARGV[7]), tonumber(ARGV[8]), tonumber(ARGV[9])
+        if radius ~= nil and in_geo_range(dlon, dlat) and redis.call('ZSCORE', KEYS[3], ARGV[1]) then
+            redis.call('GEOADD', KEYS[3], dlon, dlat, 'destination')
+            local distance = redis.call('GEODIST', KEYS[3], ARGV[1], 'destination', 'm')
+            if distance and tonumber(distance) <= radius then
+                arrival = 1
+            end
+        end
+    end
+end
+
+local since = tonumber(ARGV[4])
+if since == nil then
+    return {tonumber(redis.call('HGET', KEYS[2], 'current')) or 0, 0, arrival, written}
+end
+
+-- 유효 시간 동안 위치를 보내지 않은 멤버 제거, 저장 시각 비교와 삭제를 같은 스크립트에서 처리해 그 사이 저장된 위치는 지우지 않음
+-- 멤버 버전은 남기고 새 버전으로 올려, 변경분 조회 시 제거된 멤버로 전달
+local stale = redis.call('ZRANGEBYSCORE', KEYS[6], '-inf', '(' .. (tonumber(ARGV[12]) - tonumber(ARGV[13])))
+if #stale > 0 then
+    redis.call('HDEL', KEYS[1], unpack(stale))
+    redis.call('ZREM', KEYS[3], unpack(stale))
+    redis.call('ZREM', KEYS[6], unpack(stale))
+    local version = next_version()
+    for i = 1, #stale do
+        redis.call('HSET', KEYS[2], stale[i], version)
+    end
+end
+
+local versions = redis.call('HGETALL', KEYS[2])
+local current, epoch = 0, 0
+for i = 1, #versions, 2 do
+    if versions[i] == 'current' then
+        current = tonumber(versions[i + 1])
+    elseif versions[i] == 'epoch' then
+        epoch = tonumber(versions[i + 1])
+    end
+end
+
+-- 클라이언트 버전이 현재 epoch 이전이거나 현재 버전보다 크면 (키 만료 후 재생성 등) 전체 스냅샷으로 응답
+if since < 0 or since < epoch or since > current then
+    local result = {current, 0, arrival, written}
+    local entries = redis.call('HGETALL', KEYS[1])
+    for i = 1, #entries do
+        table.insert(result, entries[i])
+    end
+    return result
+end
+
+local members = {}
+for i = 1, #versions, 2 do
+    if versions[i] ~= 'current' and versions[i] ~= 'epoch' and tonumber(versions[i + 1]) > since then
+        table.insert(members, versions[i])
+    end
+end
+
+local result = {current, 1, arrival, written}
+if #members > 0 then
+    local records = redis.call('HMGET', KEYS[1], unpack(members))
+    for i = 1, #members do
+        table.insert(result, members[i])
+        table.insert(result, records[i] or '')
+    end
+end
+return result
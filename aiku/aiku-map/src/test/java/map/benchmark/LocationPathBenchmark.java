@@ -0,0 +1,217 @@
+package map.benchmark;
+
+import common.domain.Location;
+import common.domain.member.Member;
+import common.domain.schedule.Schedule;
+import common.domain.team.Team;
+import common.domain.value_reference.TeamValue;
+import jakarta.persistence.EntityManager;
+import map.dto.LocationsResponseDto;
+import map.dto.RealTimeLocationDto;
+import map.service.MapService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+위치 경로(saveAndSendAllLocation, getAllLocation) 부하 측정
+Redis 는 임베디드 Redis, MySQL 은 테스트 설정의 DB 를 사용 (스케줄/멤버 데이터가 커밋되므로 일회용 DB 에서 실행)
+
+실행 : ./gradlew :aiku-map:benchmark -Dbenchmark.schedules=50 -Dbenchmark.members=5 -Dbenchmark.requests=200
+ - benchmark.schedules : 동시에 진행 중인 스케줄 수
+ - benchmark.members   : 스케줄당 멤버 수
+ - benchmark.requests  : 멤버당 위치 전송 횟수 (전송마다 변경분 조회 1회)
+ - benchmark.threads   : 요청 스레드 수
+ */
+@Tag("benchmark")
+@Import(RedisCommandCounter.class)
+@SpringBootTest(properties = "map.location.throttle.enabled=false")
+class LocationPathBenchmark {
+
+    private static final int SCHEDULES = Integer.getInteger("benchmark.schedules", 20);
+    private static final int MEMBERS = Integer.getInteger("benchmark.members", 5);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 100);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final int REDIS_PORT = Integer.getInteger("benchmark.redis-port", 6390);
+
+    private static RedisServer redisServer;
+
+    @Autowired
+    MapService mapService;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    RedisCommandCounter redisCommandCounter;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) throws IOException {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @Test
+    void locationPath() throws Exception {
+        List<long[]> scheduleMembers = createRunningSchedules();
+
+        // 워밍업 후 카운터 초기화
+        run(scheduleMembers, Math.min(10, REQUESTS));
+        redisCommandCounter.reset();
+
+        LatencyRecorder saveLatency = new LatencyRecorder(SCHEDULES * MEMBERS * REQUESTS);
+        LatencyRecorder getLatency = new LatencyRecorder(SCHEDULES * MEMBERS * REQUESTS);
+
+        long start = System.nanoTime();
+        run(scheduleMembers, REQUESTS, saveLatency, getLatency);
+        long elapsedNanos = System.nanoTime() - start;
+
+        long requestCount = saveLatency.count() + getLatency.count();
+        System.out.printf("""
+                ===== map location path benchmark =====
+                schedules=%d, members/schedule=%d, requests/member=%d, threads=%d
+                total requests : %d in %.2fs (%.1f req/s)
+                saveAndSendAllLocation : p50=%.3fms p99=%.3fms
+                getAllLocation         : p50=%.3fms p99=%.3fms
+                redis commands/request : %.2f
+                %n""",
+                SCHEDULES, MEMBERS, REQUESTS, THREADS,
+                requestCount, elapsedNanos / 1e9, requestCount / (elapsedNanos / 1e9),
+                saveLatency.percentileMillis(50), saveLatency.percentileMillis(99),
+                getLatency.percentileMillis(50), getLatency.percentileMillis(99),
+                (double) redisCommandCounter.getCommandCount() / requestCount);
+    }
+
+    private void run(List<long[]> scheduleMembers, int requests) throws Exception {
+        int size = scheduleMembers.size() * requests;
+        run(scheduleMembers, requests, new LatencyRecorder(size), new LatencyRecorder(size));
+    }
+
+    // 멤버마다 무작위로 이동하며 위치 전송 후 마지막으로 받은 버전 이후 변경분 조회
+    private void run(List<long[]> scheduleMembers, int requests, LatencyRecorder saveLatency, LatencyRecorder getLatency) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long[] scheduleMember : scheduleMembers) {
+                futures.add(executor.submit(() -> {
+                    long scheduleId = scheduleMember[0];
+                    long memberId = scheduleMember[1];
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    double latitude = 37.5 + random.nextDouble(0.1);
+                    double longitude = 127.0 + random.nextDouble(0.1);
+                    Long version = null;
+
+                    for (int i = 0; i < requests; i++) {
+                        latitude += random.nextDouble(-0.0005, 0.0005);
+                        longitude += random.nextDouble(-0.0005, 0.0005);
+
+                        long saveStart = System.nanoTime();
+                        LocationsResponseDto saved = mapService.saveAndSendAllLocation(memberId, scheduleId, new RealTimeLocationDto(latitude, longitude), version);
+                        saveLatency.record(System.nanoTime() - saveStart);
+
+                        long getStart = System.nanoTime();
+                        LocationsResponseDto delta = mapService.getAllLocation(memberId, scheduleId, saved.getVersion());
+                        getLatency.record(System.nanoTime() - getStart);
+                        version = delta.getVersion();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // 도착 처리가 일어나지 않도록 도착지는 측정 영역 밖에 둠
+    private List<long[]> createRunningSchedules() {
+        return transactionTemplate.execute(status -> {
+            List<long[]> scheduleMembers = new ArrayList<>();
+            long runId = System.currentTimeMillis();
+            String prefix = "bench" + runId;
+
+            for (int s = 0; s < SCHEDULES; s++) {
+                List<Member> members = new ArrayList<>();
+                for (int m = 0; m < MEMBERS; m++) {
+                    Member member = Member.builder()
+                            .oauthId(runId * 1000 + s * MEMBERS + m)
+                            .nickname(prefix + "_" + s + "_" + m)
+                            .email(prefix + "_" + s + "_" + m + "@sample.com")
+                            .password("1")
+                            .build();
+                    em.persist(member);
+                    members.add(member);
+                }
+
+                Team team = Team.create(members.get(0), prefix + "_team_" + s);
+                em.persist(team);
+
+                Schedule schedule = Schedule.create(members.get(0), new TeamValue(team.getId()), prefix + "_schedule_" + s,
+                        LocalDateTime.now().plusHours(1), new Location("destination", 0.0, 0.0), 0);
+                members.stream().skip(1).forEach(member -> schedule.addScheduleMember(member, false, 0));
+                schedule.setRun();
+                em.persist(schedule);
+
+                members.forEach(member -> scheduleMembers.add(new long[]{schedule.getId(), member.getId()}));
+            }
+            return scheduleMembers;
+        });
+    }
+
+    private static class LatencyRecorder {
+
+        private final long[] latencies;
+        private final AtomicInteger index = new AtomicInteger();
+
+        LatencyRecorder(int capacity) {
+            this.latencies = new long[capacity];
+        }
+
+        void record(long nanos) {
+            int i = index.getAndIncrement();
+            if (i < latencies.length) latencies[i] = nanos;
+        }
+
+        int count() {
+            return Math.min(index.get(), latencies.length);
+        }
+
+        double percentileMillis(int percentile) {
+            int count = count();
+            if (count == 0) return 0;
+
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(rank, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package map.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+RedisConnectionFactory 가 만드는 커넥션을 감싸 Redis 명령 수를 셈
+xxxCommands() 로 얻은 명령 객체의 호출도 명령 1회로 셈 (evalSha 실패 후 eval 재시도는 2회)
+ */
+public class RedisCommandCounter implements BeanPostProcessor {
+
+    private static final Set<String> NOT_COMMANDS = Set.of(
+            "close", "isClosed", "getNativeConnection", "isQueueing", "isPipelined", "openPipeline", "closePipeline",
+            "getSentinelConnection", "getSubscription", "isSubscribed", "toString", "hashCode", "equals");
+
+    private final AtomicLong commandCount = new AtomicLong();
+
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    public void reset() {
+        commandCount.set(0);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof RedisConnectionFactory)) return bean;
+
+        return proxy(bean, (proxy, method, args) -> {
+            Object result = invoke(bean, method, args);
+            return result instanceof RedisConnection ? countingProxy(result) : result;
+        });
+    }
+
+    private Object countingProxy(Object target) {
+        return proxy(target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (method.getName().endsWith("Commands") && method.getReturnType().isInterface()) {
+                return countingProxy(result);
+            }
+            if (!NOT_COMMANDS.contains(method.getName())) {
+                commandCount.incrementAndGet();
+            }
+            return result;
+        });
+    }
+
+    private Object proxy(Object target, InvocationHandler handler) {
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(),
+                ClassUtils.getAllInterfacesForClass(target.getClass()), handler);
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
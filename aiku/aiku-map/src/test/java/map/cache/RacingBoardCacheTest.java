@@ -0,0 +1,42 @@
+package map.cache;
+
+import map.dto.RacingResDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RacingBoardCacheTest {
+
+    @Test
+    void loadOnceUntilEvicted() {
+        //given
+        RacingBoardCache cache = new RacingBoardCache(100, 5);
+        AtomicInteger loadCount = new AtomicInteger();
+        RacingResDto racing = new RacingResDto(null, null, LocalDateTime.now());
+
+        //when
+        List<RacingResDto> first = cache.getRacings(10L, () -> {
+            loadCount.incrementAndGet();
+            return List.of(racing);
+        });
+        List<RacingResDto> cached = cache.getRacings(10L, () -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+        cache.evict(10L);
+        List<RacingResDto> reloaded = cache.getRacings(10L, () -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+
+        //then
+        assertThat(first).containsExactly(racing);
+        assertThat(cached).containsExactly(racing);
+        assertThat(reloaded).isEmpty();
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,60 @@
+package map.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleAccessCacheTest {
+
+    @Test
+    void cacheOnlyPassedResult() {
+        //given
+        ScheduleAccessCache cache = new ScheduleAccessCache(100, 10, 60);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        boolean notMember = cache.isMemberInSchedule(1L, 10L, () -> loadCount.incrementAndGet() < 0);
+        boolean member = cache.isMemberInSchedule(1L, 10L, () -> loadCount.incrementAndGet() > 0);
+        boolean cached = cache.isMemberInSchedule(1L, 10L, () -> loadCount.incrementAndGet() < 0);
+
+        //then
+        assertThat(notMember).isFalse();
+        assertThat(member).isTrue();
+        assertThat(cached).isTrue();
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictScheduleMember() {
+        //given
+        ScheduleAccessCache cache = new ScheduleAccessCache(100, 10, 60);
+        cache.isMemberInSchedule(1L, 10L, () -> true);
+        cache.isMemberInSchedule(2L, 10L, () -> true);
+
+        //when
+        cache.evictScheduleMember(10L, 1L);
+
+        //then
+        assertThat(cache.isMemberInSchedule(1L, 10L, () -> false)).isFalse();
+        assertThat(cache.isMemberInSchedule(2L, 10L, () -> false)).isTrue();
+    }
+
+    @Test
+    void evictSchedule() {
+        //given
+        ScheduleAccessCache cache = new ScheduleAccessCache(100, 10, 60);
+        cache.isScheduleInRun(10L, () -> true);
+        cache.isMemberInSchedule(1L, 10L, () -> true);
+        cache.isMemberInSchedule(1L, 20L, () -> true);
+
+        //when
+        cache.evictSchedule(10L);
+
+        //then
+        assertThat(cache.isScheduleInRun(10L, () -> false)).isFalse();
+        assertThat(cache.isMemberInSchedule(1L, 10L, () -> false)).isFalse();
+        assertThat(cache.isMemberInSchedule(1L, 20L, () -> false)).isTrue();
+    }
+}
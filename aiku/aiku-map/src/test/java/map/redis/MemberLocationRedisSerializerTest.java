@@ -0,0 +1,59 @@
+package map.redis;
+
+import map.repository.schedule_location.MemberLocation;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberLocationRedisSerializerTest {
+
+    @Test
+    void binaryRoundTrip() {
+        //given
+        MemberLocationRedisSerializer serializer = new MemberLocationRedisSerializer(true);
+        MemberLocation location = new MemberLocation(37.5665351, 126.9779692, true, 1_700_000_000_000L);
+
+        //when
+        byte[] bytes = serializer.serialize(location);
+        MemberLocation result = serializer.deserialize(bytes);
+
+        //then
+        assertThat(bytes.length).isEqualTo(18);
+        assertThat(result.getLatitude()).isEqualTo(location.getLatitude());
+        assertThat(result.getLongitude()).isEqualTo(location.getLongitude());
+        assertThat(result.isArrived()).isTrue();
+        assertThat(result.getSavedAt()).isEqualTo(location.getSavedAt());
+    }
+
+    @Test
+    void readLegacyValue() {
+        //given
+        MemberLocationRedisSerializer serializer = new MemberLocationRedisSerializer(true);
+        byte[] legacy = "-33.8688:151.2093:false:1700000000000".getBytes(StandardCharsets.UTF_8);
+
+        //when
+        MemberLocation result = serializer.deserialize(legacy);
+
+        //then
+        assertThat(result.getLatitude()).isEqualTo(-33.8688);
+        assertThat(result.getLongitude()).isEqualTo(151.2093);
+        assertThat(result.isArrived()).isFalse();
+        assertThat(result.getSavedAt()).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void legacyWriteMode() {
+        //given
+        MemberLocationRedisSerializer serializer = new MemberLocationRedisSerializer(false);
+        MemberLocation location = new MemberLocation(1.5, 2.5, false, 10L);
+
+        //when
+        byte[] bytes = serializer.serialize(location);
+
+        //then
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("1.5:2.5:false:10");
+        assertThat(serializer.deserialize(bytes).getLongitude()).isEqualTo(2.5);
+    }
+}
@@ -0,0 +1,101 @@
+package map.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    HashedTimingWheel timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        timingWheel = new HashedTimingWheel("test", 10, 16, 1);
+        timingWheel.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.stop();
+    }
+
+    @Test
+    void expireAndRemove() throws InterruptedException {
+        //given
+        CountDownLatch latch = new CountDownLatch(1);
+
+        //when
+        timingWheel.schedule(1L, 50, latch::countDown);
+
+        //then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    void expireAfterMoreThanOneRound() throws InterruptedException {
+        //given
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.currentTimeMillis();
+
+        //when
+        timingWheel.schedule(1L, 300, latch::countDown);
+
+        //then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    void cancel() throws InterruptedException {
+        //given
+        AtomicInteger count = new AtomicInteger();
+        timingWheel.schedule(1L, 50, count::incrementAndGet);
+
+        //when
+        timingWheel.cancel(1L);
+        Thread.sleep(200);
+
+        //then
+        assertThat(count.get()).isZero();
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    void rescheduleReplacesPrevious() throws InterruptedException {
+        //given
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        //when
+        timingWheel.schedule(1L, 50, count::incrementAndGet);
+        timingWheel.schedule(1L, 100, latch::countDown);
+
+        //then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(count.get()).isZero();
+    }
+
+    @Test
+    void scheduleWhileTickingNeverSlipsARound() throws InterruptedException {
+        //given
+        int count = 200;
+        CountDownLatch latch = new CountDownLatch(count);
+
+        //when
+        for (int i = 0; i < count; i++) {
+            timingWheel.schedule((long) i, i % 20, latch::countDown);
+            Thread.sleep(1);
+        }
+
+        //then
+        // 한 바퀴(16 * 10ms) 밀린 타임아웃이 없으면 마지막 등록 후 바로 모두 만료
+        assertThat(latch.await(150, TimeUnit.MILLISECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,55 @@
+package map.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocationWritePolicyTest {
+
+    @Test
+    void suppressSmallMove() {
+        //given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LocationWritePolicy policy = new LocationWritePolicy(true, 5, 0, 60_000, 100, meterRegistry);
+
+        //when
+        boolean first = policy.shouldWrite(1L, 1L, 37.5665, 126.9780);
+        boolean smallMove = policy.shouldWrite(1L, 1L, 37.56651, 126.97801);
+        boolean bigMove = policy.shouldWrite(1L, 1L, 37.5675, 126.9780);
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(smallMove).isFalse();
+        assertThat(bigMove).isTrue();
+        assertThat(meterRegistry.counter("map.location.write", "result", "accepted").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("map.location.write", "result", "suppressed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void suppressTooFrequentWrite() {
+        //given
+        LocationWritePolicy policy = new LocationWritePolicy(true, 0, 60_000, 120_000, 100, new SimpleMeterRegistry());
+
+        //when
+        boolean first = policy.shouldWrite(1L, 1L, 37.5665, 126.9780);
+        boolean tooFrequent = policy.shouldWrite(1L, 1L, 38.5665, 126.9780);
+        boolean otherMember = policy.shouldWrite(1L, 2L, 37.5665, 126.9780);
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(tooFrequent).isFalse();
+        assertThat(otherMember).isTrue();
+    }
+
+    @Test
+    void disabledPolicyAcceptsAll() {
+        //given
+        LocationWritePolicy policy = new LocationWritePolicy(false, 5, 1000, 60_000, 100, new SimpleMeterRegistry());
+
+        //when, then
+        assertThat(policy.shouldWrite(1L, 1L, 37.5665, 126.9780)).isTrue();
+        assertThat(policy.shouldWrite(1L, 1L, 37.5665, 126.9780)).isTrue();
+    }
+}
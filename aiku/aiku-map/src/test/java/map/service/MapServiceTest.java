@@ -10,11 +10,15 @@ import common.domain.value_reference.TeamValue;
 import jakarta.persistence.EntityManager;
 import map.dto.*;
 import map.exception.ScheduleException;
+import map.repository.schedule_location.LocationTrailPoint;
+import map.repository.schedule_location.ScheduleLocationRepository;
+import map.repository.schedule_location.ScheduleLocationSnapshot;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -32,6 +36,12 @@ public class MapServiceTest {
     @Autowired
     MapService mapService;
 
+    @Autowired
+    ScheduleLocationRepository scheduleLocationRepository;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
     Member member1;
     Member member2;
     Member member3;
@@ -108,7 +118,7 @@ public class MapServiceTest {
     @Test
     void 멤버_1명_위치_전달_저장_정상() {
         RealTimeLocationDto member1Location = new RealTimeLocationDto(123.456, 123.456);
-        LocationsResponseDto locationsResponseDto = mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location);
+        LocationsResponseDto locationsResponseDto = mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location, null);
 
         assertThat(locationsResponseDto.getCount()).isEqualTo(1);
 
@@ -124,8 +134,8 @@ public class MapServiceTest {
     void 멤버_2명_위치_전달_저장_정상() {
         RealTimeLocationDto member1Location = new RealTimeLocationDto(123.456, 123.456);
         RealTimeLocationDto member2Location = new RealTimeLocationDto(123.457, 123.457);
-        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location);
-        LocationsResponseDto locationsResponseDto = mapService.saveAndSendAllLocation(member2.getId(), schedule1.getId(), member2Location);
+        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location, null);
+        LocationsResponseDto locationsResponseDto = mapService.saveAndSendAllLocation(member2.getId(), schedule1.getId(), member2Location, null);
 
         assertThat(locationsResponseDto.getCount()).isEqualTo(2);
 
@@ -149,9 +159,9 @@ public class MapServiceTest {
         RealTimeLocationDto member1Location = new RealTimeLocationDto(123.456, 123.456);
         RealTimeLocationDto member2Location = new RealTimeLocationDto(123.457, 123.457);
         RealTimeLocationDto member3Location = new RealTimeLocationDto(123.458, 123.458);
-        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location);
-        mapService.saveAndSendAllLocation(member2.getId(), schedule1.getId(), member2Location);
-        LocationsResponseDto locationsResponseDto = mapService.saveAndSendAllLocation(member3.getId(), schedule1.getId(), member3Location);
+        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location, null);
+        mapService.saveAndSendAllLocation(member2.getId(), schedule1.getId(), member2Location, null);
+        LocationsResponseDto locationsResponseDto = mapService.saveAndSendAllLocation(member3.getId(), schedule1.getId(), member3Location, null);
 
         assertThat(locationsResponseDto.getCount()).isEqualTo(3);
 
@@ -177,6 +187,78 @@ public class MapServiceTest {
         assertThat(realTimeLocation3ResDto.getIsArrived()).isFalse();
     }
 
+    @Test
+    void 멤버_위치_변경분_조회_정상() {
+        RealTimeLocationDto member1Location = new RealTimeLocationDto(123.456, 123.456);
+        RealTimeLocationDto member2Location = new RealTimeLocationDto(123.457, 123.457);
+        LocationsResponseDto first = mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location, null);
+        mapService.saveAndSendAllLocation(member2.getId(), schedule1.getId(), member2Location, null);
+
+        LocationsResponseDto delta = mapService.getAllLocation(member1.getId(), schedule1.getId(), first.getVersion());
+
+        assertThat(first.getIsDelta()).isFalse();
+        assertThat(delta.getIsDelta()).isTrue();
+        assertThat(delta.getCount()).isEqualTo(1);
+        assertThat(delta.getLocations().get(0).getMemberId()).isEqualTo(member2.getId());
+        assertThat(delta.getVersion()).isGreaterThan(first.getVersion());
+
+        LocationsResponseDto unchanged = mapService.getAllLocation(member1.getId(), schedule1.getId(), delta.getVersion());
+        assertThat(unchanged.getCount()).isEqualTo(0);
+    }
+
+    @Test
+    void 멤버_위치_변경분_만료_멤버_제거_정상() {
+        //given
+        RealTimeLocationDto member1Location = new RealTimeLocationDto(37.5665, 126.9780);
+        RealTimeLocationDto member2Location = new RealTimeLocationDto(37.5700, 126.9800);
+        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location, null);
+        LocationsResponseDto first = mapService.saveAndSendAllLocation(member2.getId(), schedule1.getId(), member2Location, null);
+
+        // member2 의 마지막 저장 시각을 유효 시간 이전으로 변경
+        redisTemplate.opsForZSet().add("schedule:" + schedule1.getId() + ":seen", String.valueOf(member2.getId()), 0);
+
+        //when
+        LocationsResponseDto delta = mapService.getAllLocation(member1.getId(), schedule1.getId(), first.getVersion());
+
+        //then
+        assertThat(delta.getIsDelta()).isTrue();
+        assertThat(delta.getCount()).isEqualTo(0);
+        assertThat(delta.getRemovedMemberIds()).containsExactly(member2.getId());
+        assertThat(delta.getVersion()).isGreaterThan(first.getVersion());
+    }
+
+    @Test
+    void 멤버_위치_이전_epoch_버전_전체_조회_정상() {
+        //given
+        RealTimeLocationDto member1Location = new RealTimeLocationDto(37.5665, 126.9780);
+        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location, null);
+
+        //when, 키 만료 전 받은 버전처럼 현재 epoch 보다 작은 버전으로 조회
+        LocationsResponseDto locations = mapService.getAllLocation(member1.getId(), schedule1.getId(), 1L);
+
+        //then
+        assertThat(locations.getIsDelta()).isFalse();
+        assertThat(locations.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 도착한_멤버_위치_전송_저장_안함() {
+        //given
+        scheduleLocationRepository.saveArrivedLocation(schedule1.getId(), member1.getId(), 37.5665, 126.9780);
+
+        //when
+        ScheduleLocationSnapshot snapshot = scheduleLocationRepository.saveLocationAndGetScheduleLocations(schedule1.getId(), member1.getId(),
+                37.6, 127.0, null, null);
+
+        //then
+        assertThat(snapshot.isWritten()).isFalse();
+        RealTimeLocationResDto location = snapshot.getLocations().stream()
+                .filter(r -> r.getMemberId().equals(member1.getId()))
+                .findAny().orElseThrow();
+        assertThat(location.getIsArrived()).isTrue();
+        assertThat(location.getLatitude()).isEqualTo(37.5665);
+    }
+
     @Test
     void 멤버_도착_정상() {
         LocalDateTime arrivalTime = LocalDateTime.now();
@@ -189,11 +271,71 @@ public class MapServiceTest {
                 .getSingleResult();
         assertThat(arrival.getArrivalTime()).isEqualTo(arrivalTime);
 
-        LocationsResponseDto locations = mapService.getAllLocation(member1.getId(), schedule1.getId());
+        LocationsResponseDto locations = mapService.getAllLocation(member1.getId(), schedule1.getId(), null);
+        RealTimeLocationResDto realTimeLocationResDto = locations.getLocations().stream()
+                .filter(r -> r.getMemberId().equals(member1.getId()))
+                .findAny().orElseThrow();
+        assertThat(realTimeLocationResDto.getIsArrived()).isTrue();
+    }
+
+    @Test
+    void 멤버_도착_반경_자동_도착_정상() {
+        RealTimeLocationDto nearDestination = new RealTimeLocationDto(1.0001, 1.0001);
+
+        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), nearDestination, null);
+        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), nearDestination, null);
+
+        List<Arrival> arrivals = em.createQuery("SELECT a FROM Arrival a WHERE a.scheduleMember.id = :scheduleMemberId", Arrival.class)
+                .setParameter("scheduleMemberId", scheduleMember1.getId())
+                .getResultList();
+        assertThat(arrivals).hasSize(1);
+
+        LocationsResponseDto locations = mapService.getAllLocation(member1.getId(), schedule1.getId(), null);
         RealTimeLocationResDto realTimeLocationResDto = locations.getLocations().stream()
                 .filter(r -> r.getMemberId().equals(member1.getId()))
                 .findAny().orElseThrow();
         assertThat(realTimeLocationResDto.getIsArrived()).isTrue();
+        assertThat(realTimeLocationResDto.getLatitude()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 멤버_이동_경로_저장_정상() {
+        RealTimeLocationDto member1Location = new RealTimeLocationDto(37.5665, 126.9780);
+        RealTimeLocationDto member2Location = new RealTimeLocationDto(37.5700, 126.9800);
+        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location, null);
+        mapService.saveAndSendAllLocation(member2.getId(), schedule1.getId(), member2Location, null);
+
+        List<LocationTrailPoint> first = scheduleLocationRepository.getTrail(schedule1.getId(), null, 1);
+        List<LocationTrailPoint> rest = scheduleLocationRepository.getTrail(schedule1.getId(), first.get(0).getStreamId(), 10);
+
+        assertThat(first).hasSize(1);
+        assertThat(first.get(0).getMemberId()).isEqualTo(member1.getId());
+        assertThat(first.get(0).getLatitude()).isEqualTo(member1Location.getLatitude());
+        assertThat(rest).hasSize(1);
+        assertThat(rest.get(0).getMemberId()).isEqualTo(member2.getId());
+
+        scheduleLocationRepository.trimTrail(schedule1.getId(), rest.get(0).getStreamId());
+        assertThat(scheduleLocationRepository.getTrail(schedule1.getId(), null, 10)).isEmpty();
+    }
+
+    @Test
+    void 멤버_이동_경로_저장한_지점까지_삭제_정상() {
+        //given
+        RealTimeLocationDto member1Location = new RealTimeLocationDto(37.5665, 126.9780);
+        RealTimeLocationDto member2Location = new RealTimeLocationDto(37.5700, 126.9800);
+        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location, null);
+        mapService.saveAndSendAllLocation(member2.getId(), schedule1.getId(), member2Location, null);
+        List<LocationTrailPoint> flushed = scheduleLocationRepository.getTrail(schedule1.getId(), null, 1);
+
+        //when
+        scheduleLocationRepository.trimTrail(schedule1.getId(), flushed.get(0).getStreamId());
+
+        //then
+        List<LocationTrailPoint> remaining = scheduleLocationRepository.getTrail(schedule1.getId(), null, 10);
+        assertThat(remaining).hasSize(1);
+        assertThat(remaining.get(0).getMemberId()).isEqualTo(member2.getId());
+
+        scheduleLocationRepository.trimTrail(schedule1.getId(), remaining.get(0).getStreamId());
     }
 
     @Test
@@ -201,13 +343,13 @@ public class MapServiceTest {
         RealTimeLocationDto member1Location = new RealTimeLocationDto(123.456, 123.456);
         RealTimeLocationDto member2Location = new RealTimeLocationDto(123.457, 123.457);
         RealTimeLocationDto member3Location = new RealTimeLocationDto(123.458, 123.458);
-        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location);
-        mapService.saveAndSendAllLocation(member2.getId(), schedule1.getId(), member2Location);
-        mapService.saveAndSendAllLocation(member3.getId(), schedule1.getId(), member3Location);
+        mapService.saveAndSendAllLocation(member1.getId(), schedule1.getId(), member1Location, null);
+        mapService.saveAndSendAllLocation(member2.getId(), schedule1.getId(), member2Location, null);
+        mapService.saveAndSendAllLocation(member3.getId(), schedule1.getId(), member3Location, null);
 
         mapService.deleteAllLocationsInSchedule(schedule1.getId());
 
-        LocationsResponseDto allLocation = mapService.getAllLocation(member1.getId(), schedule1.getId());
+        LocationsResponseDto allLocation = mapService.getAllLocation(member1.getId(), schedule1.getId(), null);
 
         assertThat(allLocation.getCount()).isEqualTo(0);
     }
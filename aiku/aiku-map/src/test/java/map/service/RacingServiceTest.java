@@ -9,6 +9,9 @@ import common.domain.schedule.Schedule;
 import common.domain.schedule.ScheduleMember;
 import common.domain.team.Team;
 import common.domain.value_reference.TeamValue;
+import common.kafka_message.KafkaTopic;
+import common.kafka_message.PointChangeReason;
+import common.kafka_message.PointChangedMessage;
 import jakarta.persistence.EntityManager;
 import map.dto.DataResDto;
 import map.dto.RacingAddDto;
@@ -16,12 +19,18 @@ import map.dto.RacingResDto;
 import map.exception.NotEnoughPointException;
 import map.exception.RacingException;
 import map.exception.ScheduleException;
+import map.kafka.KafkaProducerService;
+import map.redis.BackfillMarker;
 import map.repository.racing.RacingRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -29,6 +38,13 @@ import java.time.Month;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @Transactional
 @SpringBootTest
@@ -40,6 +56,12 @@ class RacingServiceTest {
     @Autowired
     private RacingService racingService;
 
+    @Autowired
+    private BackfillMarker backfillMarker;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
     Member member1;
     Member member2;
     Member member3;
@@ -54,9 +76,12 @@ class RacingServiceTest {
     Racing racing1;
     Racing racing2;
 
-    @Autowired
+    @SpyBean
     private RacingRepository racingRepository;
 
+    @MockBean
+    private KafkaProducerService kafkaService;
+
     @BeforeEach
     void setUp() {
         member1 = Member.builder()
@@ -142,6 +167,16 @@ class RacingServiceTest {
         assertThat(data.size()).isEqualTo(2);
     }
 
+    @Test
+    void 레이싱_리스트_조회_진행중_레이싱만() {
+        Racing waitingRacing = Racing.create(scheduleMember1.getId(), scheduleMember3.getId(), 0);
+        em.persist(waitingRacing);
+
+        DataResDto<List<RacingResDto>> racings = racingService.getRacings(member1.getId(), schedule1.getId());
+
+        assertThat(racings.getData().size()).isEqualTo(2);
+    }
+
     @Test
     void 레이싱_생성_정상() {
         RacingAddDto racingAddDto = new RacingAddDto(member3.getId(), 0);
@@ -286,6 +321,25 @@ class RacingServiceTest {
         });
     }
 
+    @Test
+    void 레이싱_거절_후_재신청_정상() {
+        Racing newRacing = Racing.create(scheduleMember1.getId(), scheduleMember3.getId(), 0);
+        em.persist(newRacing);
+
+        racingService.denyRacing(member3.getId(), schedule1.getId(), newRacing.getId());
+
+        em.flush();
+        em.clear();
+
+        RacingAddDto racingAddDto = new RacingAddDto(member1.getId(), 0);
+        Long racingId = racingService.makeRacing(member3.getId(), schedule1.getId(), racingAddDto);
+
+        Racing findRacing = em.find(Racing.class, racingId);
+
+        assertThat(findRacing.getRaceStatus()).isEqualTo(ExecStatus.WAIT);
+        assertThat(findRacing.getRacerPairKey()).isEqualTo(newRacing.getRacerPairKey());
+    }
+
     @Test
     void 레이싱_수락_정상() {
         Racing newRacing = Racing.create(scheduleMember1.getId(), scheduleMember3.getId(), 0);
@@ -293,6 +347,9 @@ class RacingServiceTest {
 
         racingService.acceptRacing(member3.getId(), schedule1.getId(), newRacing.getId());
 
+        em.flush();
+        em.clear();
+
         Racing findRacing = em.find(Racing.class, newRacing.getId());
 
         assertThat(findRacing.getRaceStatus()).isEqualTo(ExecStatus.RUN);
@@ -313,6 +370,26 @@ class RacingServiceTest {
         assertThat(findRacing.getStatus()).isEqualTo(Status.DELETE);
     }
 
+    @Test
+    void 레이싱_거절_후_수락_실패() {
+        Racing newRacing = Racing.create(scheduleMember1.getId(), scheduleMember3.getId(), 0);
+        em.persist(newRacing);
+
+        racingService.denyRacing(member3.getId(), schedule1.getId(), newRacing.getId());
+
+        org.junit.jupiter.api.Assertions.assertThrows(ScheduleException.class, () -> {
+            racingService.acceptRacing(member3.getId(), schedule1.getId(), newRacing.getId());
+        });
+
+        em.flush();
+        em.clear();
+
+        Racing findRacing = em.find(Racing.class, newRacing.getId());
+
+        assertThat(findRacing.getRaceStatus()).isEqualTo(ExecStatus.WAIT);
+        assertThat(findRacing.getStatus()).isEqualTo(Status.DELETE);
+    }
+
     @Test
     void 멤버_도착_레이싱_종료() {
         Racing newRacing = Racing.create(scheduleMember1.getId(), scheduleMember3.getId(), 0);
@@ -336,6 +413,38 @@ class RacingServiceTest {
         assertThat(newRacing.getWinner()).isNull();
     }
 
+    @Test
+    void 멤버_도착_정산_중_스케줄_종료_무승부만_환불() {
+        // 도착 정산이 진행 중 레이싱을 조회한 직후 스케줄 종료가 먼저 무승부 처리
+        doAnswer(invocation -> {
+            Object racingIds = invocation.callRealMethod();
+            racingService.terminateRunningRacing(schedule1.getId());
+            return racingIds;
+        }).when(racingRepository).findRunningRacingIdsByScheduleMemberIdForUpdate(anyLong());
+
+        racingService.makeMemberWinnerInRacing(member2.getId(), schedule1.getId(), schedule1.getScheduleName());
+
+        em.flush();
+        em.clear();
+
+        racing1 = em.find(Racing.class, racing1.getId());
+        racing2 = em.find(Racing.class, racing2.getId());
+
+        assertThat(racing1.getRaceStatus()).isEqualTo(ExecStatus.TERM);
+        assertThat(racing1.getWinner()).isNull();
+        assertThat(racing2.getRaceStatus()).isEqualTo(ExecStatus.TERM);
+        assertThat(racing2.getWinner()).isNull();
+
+        ArgumentCaptor<List<?>> messages = ArgumentCaptor.forClass(List.class);
+        verify(kafkaService, atLeastOnce()).sendMessages(eq(KafkaTopic.ALARM), messages.capture());
+        List<PointChangeReason> reasons = messages.getAllValues().stream()
+                .flatMap(List::stream)
+                .filter(PointChangedMessage.class::isInstance)
+                .map(message -> ((PointChangedMessage) message).getReason())
+                .toList();
+        assertThat(reasons).containsOnly(PointChangeReason.RACING_DRAW);
+    }
+
     @Test
     void 스케줄_종료_레이싱_무승부() {
         Racing newRacing = Racing.create(scheduleMember1.getId(), scheduleMember3.getId(), 0);
@@ -360,4 +469,18 @@ class RacingServiceTest {
         assertThat(newRacing.getWinner()).isNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    void 레이서_페어키_백필_채울_행_없으면_이후_실행_안함() {
+        //given
+        redisTemplate.delete("backfill:racer-pair-key");
+        clearInvocations(racingRepository);
+
+        //when
+        racingService.backfillRacerPairKeys();
+        racingService.backfillRacerPairKeys();
+
+        //then
+        assertThat(backfillMarker.isDone("racer-pair-key")).isTrue();
+        verify(racingRepository, times(1)).backfillRacerPairKeys();
+    }
+}